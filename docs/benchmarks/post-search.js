@@ -0,0 +1,39 @@
+// 게시글 검색 지연 시간 측정 (k6)
+// - 같은 데이터로 PARALLEL_QUERY_ENABLED=false / true 두 번 띄워 각각 실행한 뒤 p50/p95를 비교
+// - 실행: k6 run -e BASE_URL=http://localhost:8080 -e LABEL=parallel-off docs/benchmarks/post-search.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const LABEL = __ENV.LABEL || 'run';
+
+// 건수 쿼리가 목록 쿼리만큼 무거운 조건 위주 (필터 없는 전체 목록은 비교 대상에서 제외)
+const QUERIES = [
+    'search=TITLE&keyword=spring',
+    `search=TITLE&keyword=${encodeURIComponent('ㅅㅍㄹ')}`,
+    `search=NICKNAME&keyword=${encodeURIComponent('철')}`,
+    'tag=java&tag=spring&tagMode=AND',
+    'tag=java&search=TITLE&keyword=jpa&sort=LIKE',
+];
+
+const filtered = new Trend(`post_search_filtered_${LABEL}`, true);
+
+export const options = {
+    scenarios: {
+        search: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 20),
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const query = QUERIES[Math.floor(Math.random() * QUERIES.length)];
+    const page = Math.floor(Math.random() * 5);
+    const res = http.get(`${BASE_URL}/api/v1/posts?${query}&page=${page}&size=20`);
+    check(res, { 'status 200': (r) => r.status === 200 });
+    filtered.add(res.timings.duration);
+}
@@ -0,0 +1,58 @@
+// 가상 스레드 모드 동시 접속 부하 (k6)
+// - 같은 데이터로 VIRTUAL_THREADS_ENABLED=false / true 두 번 띄워 각각 VUS=1000, VUS=5000으로 실행한 뒤 비교
+// - 실행: k6 run -e BASE_URL=http://localhost:8080 -e LABEL=vt-on -e VUS=1000 docs/benchmarks/virtual-threads.js
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Rate, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const LABEL = __ENV.LABEL || 'run';
+const VUS = Number(__ENV.VUS || 1000);
+const MAX_POST_ID = Number(__ENV.MAX_POST_ID || 100000);
+const MAX_USER_ID = Number(__ENV.MAX_USER_ID || 10000);
+
+const latency = new Trend(`vt_latency_${LABEL}`, true);
+// 커넥션 대기 시간 초과(503)와 그 밖의 실패를 나눠 집계
+const unavailable = new Rate(`vt_503_${LABEL}`);
+const failed = new Rate(`vt_failed_${LABEL}`);
+
+export const options = {
+    scenarios: {
+        clients: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '1m', target: VUS },
+                { duration: __ENV.DURATION || '3m', target: VUS },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function randomId(max) {
+    return 1 + Math.floor(Math.random() * max);
+}
+
+// 실제 사용 비율에 가깝게: 목록 조회 > 상세 조회 > 사용자 조회
+export default function () {
+    const dice = Math.random();
+    let res;
+    if (dice < 0.5) {
+        res = http.get(`${BASE_URL}/api/v1/posts?page=${Math.floor(Math.random() * 10)}&size=20`);
+    } else if (dice < 0.9) {
+        res = http.get(`${BASE_URL}/api/v1/posts/${randomId(MAX_POST_ID)}`);
+    } else {
+        res = http.get(`${BASE_URL}/api/v1/users/${randomId(MAX_USER_ID)}`);
+    }
+
+    check(res, { 'status 2xx/404': (r) => (r.status >= 200 && r.status < 300) || r.status === 404 });
+    latency.add(res.timings.duration);
+    unavailable.add(res.status === 503);
+    failed.add(res.status === 0 || (res.status >= 500 && res.status !== 503));
+
+    // 사람 사용자처럼 요청 사이에 잠깐 쉼 (연결 수 = VUS가 되도록)
+    sleep(0.5 + Math.random());
+}
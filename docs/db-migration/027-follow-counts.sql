@@ -0,0 +1,9 @@
+-- 팔로워/팔로잉 수 비정규화 (users.follower_count, users.following_count)
+ALTER TABLE users
+    ADD COLUMN follower_count  INT NOT NULL DEFAULT 0,
+    ADD COLUMN following_count INT NOT NULL DEFAULT 0;
+
+-- 기존 follows 기준 초기값 (이후 어긋남은 vlog.follow-count.reconcile-cron 배치가 보정)
+UPDATE users u
+SET u.follower_count  = (SELECT COUNT(*) FROM follows f WHERE f.following_id = u.user_id),
+    u.following_count = (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u.user_id);
@@ -0,0 +1,23 @@
+-- 토큰 인증 모드 (vlog.auth.mode=token)
+CREATE TABLE refresh_tokens
+(
+    refresh_token_id BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id          BIGINT      NOT NULL,
+    family_id        BIGINT      NOT NULL,
+    token_hash       VARCHAR(64) NOT NULL,
+    expires_at       DATETIME(6) NOT NULL,
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    PRIMARY KEY (refresh_token_id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens (family_id);
+
+CREATE TABLE revoked_tokens
+(
+    token_id   BIGINT      NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (token_id)
+);
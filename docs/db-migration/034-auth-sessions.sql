@@ -0,0 +1,11 @@
+-- DB 세션 저장소 (vlog.auth.session-store=jdbc)
+CREATE TABLE auth_sessions
+(
+    session_key VARCHAR(64)    NOT NULL,
+    user_id     BIGINT         NOT NULL,
+    payload     VARBINARY(512) NOT NULL,
+    expires_at  DATETIME(6)    NOT NULL,
+    PRIMARY KEY (session_key)
+);
+CREATE INDEX idx_auth_sessions_expires_at ON auth_sessions (expires_at);
+CREATE INDEX idx_auth_sessions_user_id ON auth_sessions (user_id);
@@ -0,0 +1,3 @@
+-- 게시글 삭제 (PostReaper가 정리)
+ALTER TABLE posts ADD COLUMN deleted_at DATETIME(6) NULL;
+CREATE INDEX idx_posts_deleted_at ON posts (deleted_at);
@@ -0,0 +1,7 @@
+-- 초성 검색 그림자 컬럼 (기존 행은 기동 시 ChoseongBackfill이 채움)
+ALTER TABLE users ADD COLUMN nickname_choseong VARCHAR(255) NULL;
+ALTER TABLE blogs ADD COLUMN title_choseong VARCHAR(255) NULL;
+ALTER TABLE posts ADD COLUMN title_choseong VARCHAR(255) NULL;
+CREATE INDEX idx_users_nickname_choseong ON users (nickname_choseong);
+CREATE INDEX idx_blogs_title_choseong ON blogs (title_choseong);
+CREATE INDEX idx_posts_title_choseong ON posts (title_choseong);
@@ -0,0 +1,28 @@
+package com.likelion.vlog.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 헬퍼
+ * - 인메모리 인덱스는 DB 커밋이 확정된 뒤에만 갱신해야 롤백 시 어긋나지 않음
+ * - 트랜잭션 밖에서 호출되면 즉시 실행
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,311 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 블로그별 최근 게시글 스트림 (fan-out-on-read 피드용)
+ * - 블로그마다 최신 postId를 streamSize개까지 내림차순 long[]로 보관 (가득 차면 가장 오래된 것부터 밀려남)
+ * - 피드는 팔로우한 블로그들의 스트림을 힙으로 k-way 병합해 만들며, 블로그마다 SQL을 날리지 않음
+ * - vlog.feed.mode=pull 일 때만 기동 시 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlogPostStreams {
+
+    private static final long[] EMPTY = new long[0];
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final PostRepository postRepository;
+
+    @Value("${vlog.feed.mode:push}")
+    private String feedMode;
+
+    @Value("${vlog.feed.stream-size:20}")
+    private int streamSize;
+
+    // blogId -> 최근 게시글 버퍼
+    private volatile Map<Long, PostBuffer> buffers = new ConcurrentHashMap<>();
+    // 작성자 userId -> blogId (게시글이 있는 블로그만)
+    private final Map<Long, Long> blogIdByAuthor = new ConcurrentHashMap<>();
+
+    // 갱신과 적재 완료(재적용 + 교체)를 직렬화, 읽기는 락 없음
+    private final Object mutationLock = new Object();
+    // 적재 중에만 non-null: 그동안 들어온 작성/삭제 (적용 순서대로)
+    private List<Mutation> pending;
+
+    private volatile boolean ready;
+
+    public boolean isEnabled() {
+        return "pull".equalsIgnoreCase(feedMode);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 기동 시 posts를 post_id 오름차순 키셋 페이징으로 읽어 블로그별 최근 streamSize개만 남김
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!isEnabled()) {
+            return;
+        }
+        long started = System.nanoTime();
+        synchronized (mutationLock) {
+            pending = new ArrayList<>();
+        }
+
+        Map<Long, LoadRing> rings = new HashMap<>();
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = postRepository.findStreamRowsAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                long postId = (Long) row[0];
+                Long blogId = (Long) row[1];
+                rings.computeIfAbsent(blogId, k -> new LoadRing(streamSize)).add(postId);
+                blogIdByAuthor.putIfAbsent((Long) row[2], blogId);
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        Map<Long, PostBuffer> loaded = new ConcurrentHashMap<>();
+        rings.forEach((blogId, ring) -> loaded.put(blogId, ring.toBuffer()));
+
+        // 적재 중 들어온 작성/삭제를 순서대로 다시 적용한 뒤 교체 (적재 스냅샷에 이미 있는 글의 삭제도 반영)
+        synchronized (mutationLock) {
+            for (Mutation mutation : pending) {
+                mutation.applyTo(loaded, streamSize);
+            }
+            buffers = loaded;
+            pending = null;
+            ready = true;
+        }
+
+        log.info("BlogPostStreams loaded: blogs={}, streamSize={}, took={}ms",
+                loaded.size(), streamSize, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * 팔로우한 작성자들의 blogId (게시글이 있는 블로그만)
+     */
+    public List<Long> blogIdsOf(long[] authorIds) {
+        List<Long> blogIds = new ArrayList<>(authorIds.length);
+        for (long authorId : authorIds) {
+            Long blogId = blogIdByAuthor.get(authorId);
+            if (blogId != null) {
+                blogIds.add(blogId);
+            }
+        }
+        return blogIds;
+    }
+
+    // === 갱신 (커밋 이후 호출) ===
+
+    public void add(Long authorId, Long blogId, long postId) {
+        if (!isEnabled()) {
+            return;
+        }
+        blogIdByAuthor.putIfAbsent(authorId, blogId);
+        apply(new Mutation(true, blogId, postId));
+    }
+
+    public void remove(Long blogId, long postId) {
+        if (!isEnabled()) {
+            return;
+        }
+        apply(new Mutation(false, blogId, postId));
+    }
+
+    private void apply(Mutation mutation) {
+        synchronized (mutationLock) {
+            if (pending != null) {
+                pending.add(mutation);
+            }
+            if (ready) {
+                mutation.applyTo(buffers, streamSize);
+            }
+        }
+    }
+
+    /**
+     * 게시글 하나의 작성/삭제 (적재 중에는 재적용을 위해 보관)
+     */
+    private record Mutation(boolean add, Long blogId, long postId) {
+
+        void applyTo(Map<Long, PostBuffer> buffers, int streamSize) {
+            if (add) {
+                buffers.compute(blogId, (k, buffer) -> (buffer == null ? new PostBuffer(EMPTY, true) : buffer)
+                        .insert(postId, streamSize));
+            } else {
+                buffers.computeIfPresent(blogId, (k, buffer) -> buffer.delete(postId, streamSize));
+            }
+        }
+    }
+
+    // === k-way 병합 ===
+
+    /**
+     * 여러 블로그 스트림을 postId 내림차순으로 병합해 before 미만 ID를 limit개까지 반환
+     * - 힙 구성 O(k), 이후 한 건당 O(log k)
+     * - 메모리에 일부만 있는 스트림이 있으면 그 스트림의 가장 오래된 ID 아래로는 순서를 보장할 수 없으므로
+     *   거기서 멈추고 needsDatabase=true로 나머지를 DB에서 이어 읽도록 알림
+     */
+    public Merged merge(Collection<Long> blogIds, long before, int limit) {
+        List<Cursor> cursors = new ArrayList<>(blogIds.size());
+        // 이 값보다 작은 ID는 DB에만 있을 수 있음
+        long floor = Long.MIN_VALUE;
+
+        for (Long blogId : blogIds) {
+            PostBuffer buffer = buffers.get(blogId);
+            if (buffer == null) {
+                continue;
+            }
+            long[] ids = buffer.postIds();
+            if (!buffer.complete()) {
+                floor = Math.max(floor, ids.length == 0 ? Long.MAX_VALUE : ids[ids.length - 1]);
+            }
+            int pos = firstBefore(ids, before);
+            if (pos < ids.length) {
+                cursors.add(new Cursor(ids, pos));
+            }
+        }
+
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(cursors);
+        List<Long> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heap.isEmpty()) {
+            Cursor top = heap.poll();
+            long postId = top.head();
+            if (postId < floor) {
+                return new Merged(merged, true);
+            }
+            merged.add(postId);
+            if (top.advance()) {
+                heap.add(top);
+            }
+        }
+        return new Merged(merged, merged.size() < limit && floor != Long.MIN_VALUE);
+    }
+
+    // 내림차순 배열에서 before 미만인 첫 위치
+    private static int firstBefore(long[] ids, long before) {
+        int low = 0, high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ids[mid] >= before) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public record Merged(List<Long> postIds, boolean needsDatabase) {
+    }
+
+    /**
+     * 블로그별 최근 게시글 (내림차순, copy-on-write)
+     * - complete: 블로그의 게시글이 전부 버퍼 안에 있음 (삭제로 빈자리가 생기면 false)
+     */
+    private record PostBuffer(long[] postIds, boolean complete) {
+
+        PostBuffer insert(long postId, int capacity) {
+            int at = firstBefore(postIds, postId + 1);
+            if (at < postIds.length && postIds[at] == postId) {
+                return this;
+            }
+            boolean overflow = postIds.length >= capacity;
+            if (overflow && at >= capacity) {
+                return new PostBuffer(postIds, false);
+            }
+            int length = Math.min(postIds.length + 1, capacity);
+            long[] next = new long[length];
+            System.arraycopy(postIds, 0, next, 0, at);
+            next[at] = postId;
+            System.arraycopy(postIds, at, next, at + 1, length - at - 1);
+            return new PostBuffer(next, complete && !overflow);
+        }
+
+        PostBuffer delete(long postId, int capacity) {
+            int at = firstBefore(postIds, postId + 1);
+            if (at >= postIds.length || postIds[at] != postId) {
+                return this;
+            }
+            long[] next = new long[postIds.length - 1];
+            System.arraycopy(postIds, 0, next, 0, at);
+            System.arraycopy(postIds, at + 1, next, at, postIds.length - at - 1);
+            // 가득 찬 버퍼에서 빠지면 그 아래 게시글은 메모리에 없음
+            return new PostBuffer(next, complete && postIds.length < capacity);
+        }
+    }
+
+    private static final class Cursor implements Comparable<Cursor> {
+        private final long[] ids;
+        private int pos;
+
+        Cursor(long[] ids, int pos) {
+            this.ids = ids;
+            this.pos = pos;
+        }
+
+        long head() {
+            return ids[pos];
+        }
+
+        boolean advance() {
+            return ++pos < ids.length;
+        }
+
+        // 큰 postId가 먼저 나오도록 역순
+        @Override
+        public int compareTo(Cursor other) {
+            return Long.compare(other.head(), head());
+        }
+    }
+
+    /**
+     * 적재용 고정 크기 링 버퍼 (오름차순으로 들어오는 ID 중 최근 capacity개 유지)
+     */
+    private static final class LoadRing {
+        private final long[] slots;
+        private long count;
+
+        LoadRing(int capacity) {
+            this.slots = new long[capacity];
+        }
+
+        void add(long postId) {
+            slots[(int) (count % slots.length)] = postId;
+            count++;
+        }
+
+        PostBuffer toBuffer() {
+            int size = (int) Math.min(count, slots.length);
+            long[] desc = new long[size];
+            for (int i = 0; i < size; i++) {
+                desc[i] = slots[(int) ((count - 1 - i) % slots.length)];
+            }
+            return new PostBuffer(desc, count <= slots.length);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.repository.FollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인메모리 팔로우 그래프
+ * - 사용자별 팔로잉/팔로워 ID를 정렬된 long[]로 보관 (박싱 없음, 이진 탐색)
+ * - 배열은 copy-on-write: 한 번 공개된 배열은 수정하지 않으므로 읽기는 락 없이 수행
+ * - vlog.follow-graph.enabled=true 일 때만 기동 시 적재, 준비 전에는 호출부가 DB로 폴백
+ * - 적재 중 커밋된 follow/unfollow/탈퇴는 버퍼에 쌓았다가 스냅샷에 순서대로 다시 적용한 뒤 교체 (삭제분도 유지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowGraph {
+
+    private static final long[] EMPTY = new long[0];
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    // ConcurrentHashMap 엔트리 + Long 키 + 배열 헤더 대략치
+    private static final long ENTRY_OVERHEAD_BYTES = 64;
+
+    private final FollowRepository followRepository;
+
+    @Value("${vlog.follow-graph.enabled:false}")
+    private boolean enabled;
+
+    // userId -> 내가 팔로우하는 userId 목록 (오름차순)
+    private volatile Map<Long, long[]> followings = new ConcurrentHashMap<>();
+    // userId -> 나를 팔로우하는 userId 목록 (오름차순)
+    private volatile Map<Long, long[]> followers = new ConcurrentHashMap<>();
+
+    // 갱신과 적재 완료(재적용 + 교체)를 직렬화, 읽기는 락 없음
+    private final Object mutationLock = new Object();
+    // 적재 중에만 non-null: 그동안 들어온 갱신 (적용 순서대로)
+    private List<Mutation> pending;
+
+    private volatile boolean ready;
+
+    /**
+     * 기동 시 follows 테이블 전체를 follow_id 키셋 페이징으로 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        synchronized (mutationLock) {
+            pending = new ArrayList<>();
+        }
+
+        Map<Long, LongArrayBuilder> outgoing = new HashMap<>();
+        Map<Long, LongArrayBuilder> incoming = new HashMap<>();
+        long lastId = 0L;
+        long edges = 0L;
+
+        while (true) {
+            List<Object[]> rows = followRepository.findEdgesAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                long follower = (Long) row[1];
+                long following = (Long) row[2];
+                outgoing.computeIfAbsent(follower, k -> new LongArrayBuilder()).add(following);
+                incoming.computeIfAbsent(following, k -> new LongArrayBuilder()).add(follower);
+                edges++;
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        Map<Long, long[]> loadedFollowings = new ConcurrentHashMap<>();
+        Map<Long, long[]> loadedFollowers = new ConcurrentHashMap<>();
+        outgoing.forEach((userId, builder) -> loadedFollowings.put(userId, builder.toSortedArray()));
+        incoming.forEach((userId, builder) -> loadedFollowers.put(userId, builder.toSortedArray()));
+
+        // 적재 중 들어온 갱신을 순서대로 다시 적용 (스냅샷에 이미 반영된 것이어도 결과는 같음)
+        synchronized (mutationLock) {
+            for (Mutation mutation : pending) {
+                mutation.applyTo(loadedFollowings, loadedFollowers);
+            }
+            followings = loadedFollowings;
+            followers = loadedFollowers;
+            pending = null;
+            ready = true;
+        }
+
+        log.info("FollowGraph loaded: users={}, edges={}, memory≈{}KB, took={}ms",
+                followings.size() + followers.size(), edges, estimatedMemoryBytes() / 1024,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // === 조회 ===
+
+    public boolean isFollowing(Long followerId, Long followingId) {
+        return Arrays.binarySearch(followings.getOrDefault(followerId, EMPTY), followingId) >= 0;
+    }
+
+    // 서로 팔로우 중인지
+    public boolean isMutual(Long userId, Long otherId) {
+        return isFollowing(userId, otherId) && isFollowing(otherId, userId);
+    }
+
+    public int followingCount(Long userId) {
+        return followings.getOrDefault(userId, EMPTY).length;
+    }
+
+    public int followerCount(Long userId) {
+        return followers.getOrDefault(userId, EMPTY).length;
+    }
+
+    /**
+     * 팔로잉 ID 목록 (오름차순)
+     * - 반환 배열은 내부 스냅샷이므로 수정 금지
+     */
+    public long[] followingIds(Long userId) {
+        return followings.getOrDefault(userId, EMPTY);
+    }
+
+    /**
+     * 팔로워 ID 목록 (오름차순)
+     * - 반환 배열은 내부 스냅샷이므로 수정 금지
+     */
+    public long[] followerIds(Long userId) {
+        return followers.getOrDefault(userId, EMPTY);
+    }
+
+    /**
+     * 그래프가 차지하는 힙 메모리 추정치 (byte)
+     */
+    public long estimatedMemoryBytes() {
+        long bytes = 0;
+        for (long[] ids : followings.values()) {
+            bytes += ENTRY_OVERHEAD_BYTES + 8L * ids.length;
+        }
+        for (long[] ids : followers.values()) {
+            bytes += ENTRY_OVERHEAD_BYTES + 8L * ids.length;
+        }
+        return bytes;
+    }
+
+    // === 갱신 (커밋 이후 호출) ===
+
+    public void add(Long followerId, Long followingId) {
+        apply(new Mutation(MutationType.ADD, followerId, followingId));
+    }
+
+    public void remove(Long followerId, Long followingId) {
+        apply(new Mutation(MutationType.REMOVE, followerId, followingId));
+    }
+
+    /**
+     * 회원 탈퇴 시 해당 사용자의 모든 간선 제거
+     */
+    public void removeUser(Long userId) {
+        apply(new Mutation(MutationType.REMOVE_USER, userId, null));
+    }
+
+    private void apply(Mutation mutation) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (mutationLock) {
+            if (pending != null) {
+                pending.add(mutation);
+            }
+            mutation.applyTo(followings, followers);
+        }
+    }
+
+    private enum MutationType {
+        ADD, REMOVE, REMOVE_USER
+    }
+
+    /**
+     * 그래프 갱신 한 건 (적재 중에는 재적용을 위해 보관)
+     */
+    private record Mutation(MutationType type, Long userId, Long otherId) {
+
+        void applyTo(Map<Long, long[]> followings, Map<Long, long[]> followers) {
+            switch (type) {
+                case ADD -> {
+                    followings.compute(userId, (k, ids) -> insert(ids, otherId));
+                    followers.compute(otherId, (k, ids) -> insert(ids, userId));
+                }
+                case REMOVE -> {
+                    followings.computeIfPresent(userId, (k, ids) -> delete(ids, otherId));
+                    followers.computeIfPresent(otherId, (k, ids) -> delete(ids, userId));
+                }
+                case REMOVE_USER -> {
+                    for (long following : followings.getOrDefault(userId, EMPTY)) {
+                        followers.computeIfPresent(following, (k, ids) -> delete(ids, userId));
+                    }
+                    for (long follower : followers.getOrDefault(userId, EMPTY)) {
+                        followings.computeIfPresent(follower, (k, ids) -> delete(ids, userId));
+                    }
+                    followings.remove(userId);
+                    followers.remove(userId);
+                }
+            }
+        }
+    }
+
+    // === 정렬 배열 연산 ===
+
+    private static long[] insert(long[] ids, long id) {
+        if (ids == null) {
+            return new long[]{id};
+        }
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos >= 0) {
+            return ids;
+        }
+        int at = -pos - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        next[at] = id;
+        System.arraycopy(ids, at, next, at + 1, ids.length - at);
+        return next;
+    }
+
+    // 비게 되면 null을 반환해 맵 엔트리까지 제거
+    private static long[] delete(long[] ids, long id) {
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, pos);
+        System.arraycopy(ids, pos + 1, next, pos, ids.length - pos - 1);
+        return next;
+    }
+
+    /**
+     * 적재용 가변 long 배열
+     */
+    private static final class LongArrayBuilder {
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
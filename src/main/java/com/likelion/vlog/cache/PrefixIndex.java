@@ -0,0 +1,356 @@
+package com.likelion.vlog.cache;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 가중치 있는 접두어 검색용 트라이
+ * - 자식은 정렬된 char[] + Node[]로만 보관 (노드당 Map 없음), 탐색은 이진 탐색
+ * - 노드마다 하위 트리의 최대 가중치를 들고 있어 상위 K개를 최선 우선 탐색으로 찾음 (하위 트리 전체를 훑지 않음)
+ * - 항목 하나가 여러 키(정규화한 원문, 초성 등)로 등록될 수 있고 결과에서는 한 번만 반환
+ * - 읽기는 공유 락, 쓰기는 배타 락
+ */
+public class PrefixIndex {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Item[] NO_ITEMS = new Item[0];
+
+    private final Function<String, Collection<String>> keysOf;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<Long, Item> items = new HashMap<>();
+
+    /**
+     * @param keysOf 원문 → 색인 키 목록 (정규화된 문자열)
+     */
+    public PrefixIndex(Function<String, Collection<String>> keysOf) {
+        this.keysOf = keysOf;
+    }
+
+    // === 갱신 ===
+
+    /**
+     * 항목 등록 또는 교체 (같은 id가 있으면 기존 키를 지우고 다시 등록)
+     */
+    public void put(long id, String text, int weight) {
+        lock.writeLock().lock();
+        try {
+            Item previous = items.remove(id);
+            if (previous != null) {
+                unlink(previous);
+            }
+            Item item = new Item(id, text, Math.max(0, weight), keysOf.apply(text).toArray(String[]::new));
+            items.put(id, item);
+            for (String key : item.keys) {
+                link(key, item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 가중치 증감 (없는 항목이면 무시)
+     */
+    public void adjust(long id, int delta) {
+        lock.writeLock().lock();
+        try {
+            Item item = items.get(id);
+            if (item != null) {
+                reweigh(item, delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 가중치 증감, 없는 항목이면 delta를 가중치로 새로 등록
+     */
+    public void adjustOrPut(long id, String text, int delta) {
+        lock.writeLock().lock();
+        try {
+            Item item = items.get(id);
+            if (item != null) {
+                reweigh(item, delta);
+                return;
+            }
+            put(id, text, delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 원문만 교체하고 가중치는 유지 (없는 항목이면 무시)
+     */
+    public void rename(long id, String text) {
+        lock.writeLock().lock();
+        try {
+            Item item = items.get(id);
+            if (item != null && !item.text.equals(text)) {
+                put(id, text, item.weight);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return items.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Item item = items.remove(id);
+            if (item != null) {
+                unlink(item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return items.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // === 조회 ===
+
+    /**
+     * 정규화된 접두어로 시작하는 키를 가진 항목 중 가중치 상위 limit개 (같으면 원문 순)
+     */
+    public List<Match> search(String prefix, int limit) {
+        return search(prefix, limit, key -> true);
+    }
+
+    /**
+     * search와 같되, 키 중 하나라도 keyFilter를 통과하는 항목만 (초성 키로 후보를 찾고 혼합 검색어로 거를 때)
+     * - 거른 항목은 건너뛰고 계속 탐색하므로 결과 수는 그대로 limit개까지
+     */
+    public List<Match> search(String prefix, int limit, Predicate<String> keyFilter) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = find(prefix);
+            if (node == null) {
+                return List.of();
+            }
+
+            // 노드는 하위 최대 가중치, 항목은 자기 가중치로 꺼내므로 항목이 나오는 순서가 곧 결과 순서
+            PriorityQueue<Object> queue = new PriorityQueue<>(PrefixIndex::compareCandidates);
+            queue.add(node);
+            Set<Long> seen = new HashSet<>();
+            List<Match> result = new ArrayList<>(limit);
+            while (!queue.isEmpty() && result.size() < limit) {
+                Object next = queue.poll();
+                if (next instanceof Item item) {
+                    if (seen.add(item.id) && Arrays.stream(item.keys).anyMatch(keyFilter)) {
+                        result.add(new Match(item.id, item.text, item.weight));
+                    }
+                    continue;
+                }
+                Node current = (Node) next;
+                Collections.addAll(queue, current.items);
+                Collections.addAll(queue, current.children);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record Match(long id, String text, int weight) {
+    }
+
+    // === 트라이 연산 (락 안에서 호출) ===
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+
+    private void link(String key, Item item) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].childOrCreate(key.charAt(i));
+        }
+        path[key.length()].addItem(item);
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i].maxWeight = Math.max(path[i].maxWeight, item.weight);
+        }
+    }
+
+    private void reweigh(Item item, int delta) {
+        item.weight = Math.max(0, item.weight + delta);
+        for (String key : item.keys) {
+            refreshPath(key);
+        }
+    }
+
+    private void unlink(Item item) {
+        for (String key : item.keys) {
+            Node node = find(key);
+            if (node != null) {
+                node.removeItem(item);
+            }
+            refreshPath(key);
+        }
+    }
+
+    // 키 경로의 최대 가중치를 아래에서부터 다시 계산하고 빈 노드는 떼어냄
+    private void refreshPath(String key) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            Node child = path[depth].child(key.charAt(depth));
+            if (child == null) {
+                break;
+            }
+            path[++depth] = child;
+        }
+        for (int i = depth; i >= 0; i--) {
+            Node node = path[i];
+            node.recomputeMax();
+            if (i > 0 && node.isEmpty()) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+            }
+        }
+    }
+
+    private static int compareCandidates(Object a, Object b) {
+        int byWeight = Integer.compare(weightOf(b), weightOf(a));
+        if (byWeight != 0) {
+            return byWeight;
+        }
+        // 같은 가중치면 노드를 먼저 펼쳐야 그 아래 같은 가중치 항목과 원문 순으로 비교됨
+        if (a instanceof Item itemA && b instanceof Item itemB) {
+            return itemA.text.compareTo(itemB.text);
+        }
+        return a instanceof Node ? (b instanceof Node ? 0 : -1) : 1;
+    }
+
+    private static int weightOf(Object candidate) {
+        return candidate instanceof Item item ? item.weight : ((Node) candidate).maxWeight;
+    }
+
+    private static final class Item {
+        private final long id;
+        private final String text;
+        private final String[] keys;
+        private int weight;
+
+        private Item(long id, String text, int weight, String[] keys) {
+            this.id = id;
+            this.text = text;
+            this.weight = weight;
+            this.keys = keys;
+        }
+    }
+
+    private static final class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private Item[] items = NO_ITEMS;
+        private int maxWeight;
+
+        Node child(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            return pos >= 0 ? children[pos] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            if (pos >= 0) {
+                return children[pos];
+            }
+            int at = -pos - 1;
+            Node created = new Node();
+            char[] nextKeys = new char[keys.length + 1];
+            Node[] nextChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, nextKeys, 0, at);
+            System.arraycopy(children, 0, nextChildren, 0, at);
+            nextKeys[at] = c;
+            nextChildren[at] = created;
+            System.arraycopy(keys, at, nextKeys, at + 1, keys.length - at);
+            System.arraycopy(children, at, nextChildren, at + 1, children.length - at);
+            keys = nextKeys;
+            children = nextChildren;
+            return created;
+        }
+
+        void removeChild(char c) {
+            int pos = Arrays.binarySearch(keys, c);
+            if (pos < 0) {
+                return;
+            }
+            char[] nextKeys = new char[keys.length - 1];
+            Node[] nextChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, nextKeys, 0, pos);
+            System.arraycopy(children, 0, nextChildren, 0, pos);
+            System.arraycopy(keys, pos + 1, nextKeys, pos, keys.length - pos - 1);
+            System.arraycopy(children, pos + 1, nextChildren, pos, children.length - pos - 1);
+            keys = nextKeys;
+            children = nextChildren;
+        }
+
+        void addItem(Item item) {
+            for (Item existing : items) {
+                if (existing == item) {
+                    return;
+                }
+            }
+            items = Arrays.copyOf(items, items.length + 1);
+            items[items.length - 1] = item;
+        }
+
+        void removeItem(Item item) {
+            for (int i = 0; i < items.length; i++) {
+                if (items[i] == item) {
+                    Item[] next = new Item[items.length - 1];
+                    System.arraycopy(items, 0, next, 0, i);
+                    System.arraycopy(items, i + 1, next, i, items.length - i - 1);
+                    items = next;
+                    return;
+                }
+            }
+        }
+
+        void recomputeMax() {
+            int max = 0;
+            for (Item item : items) {
+                max = Math.max(max, item.weight);
+            }
+            for (Node child : children) {
+                max = Math.max(max, child.maxWeight);
+            }
+            maxWeight = max;
+        }
+
+        boolean isEmpty() {
+            return items.length == 0 && children.length == 0;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.repository.BlogRepository;
+import com.likelion.vlog.repository.TagMapRepository;
+import com.likelion.vlog.util.HangulUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자동완성 색인 (태그 제목, 닉네임, 블로그 제목)
+ * - 태그는 공개 게시글 수, 닉네임과 블로그 제목은 (블로그 주인의) 팔로워 수를 가중치로 사용
+ * - 원문 전체와 공백 뒤 단어 시작 위치마다 키를 만들어 "블로" 로도 "홍길동의 블로그"를 찾음
+ * - 각 키의 초성 키도 함께 등록해 "ㅅㅍㄹ", "스ㅍ" 같은 초성/혼합 검색어도 같은 트라이에서 처리
+ * - 기동 시 적재하고 이후에는 태그/가입/닉네임 변경/탈퇴/팔로우가 커밋된 뒤 증분 반영
+ * - 탈퇴 정리 배치가 줄이는 팔로워 수처럼 직접 반영하지 않는 변화는 한가한 시간대 재적재로 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuggestIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1_000;
+
+    private final TagMapRepository tagMapRepository;
+    private final BlogRepository blogRepository;
+
+    private volatile Indexes indexes = Indexes.empty();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${vlog.suggest.reload-cron:0 55 4 * * *}")
+    public void load() {
+        long started = System.nanoTime();
+        Indexes loaded = Indexes.empty();
+
+        for (Object[] row : tagMapRepository.countLivePostsByTag()) {
+            loaded.tags.put((Long) row[0], (String) row[1], ((Long) row[2]).intValue());
+        }
+
+        long lastUserId = 0L;
+        while (true) {
+            List<Object[]> rows = blogRepository.findSuggestRowsAfter(lastUserId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (Object[] row : rows) {
+                Long userId = (Long) row[0];
+                int followerCount = (Integer) row[2];
+                Long blogId = (Long) row[3];
+                loaded.users.put(userId, (String) row[1], followerCount);
+                loaded.blogs.put(blogId, (String) row[4], followerCount);
+                loaded.blogIdByUser.put(userId, blogId);
+            }
+            if (rows.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+            lastUserId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        indexes = loaded;
+
+        log.info("SuggestIndex loaded: tags={}, users={}, took={}ms",
+                loaded.tags.size(), loaded.users.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // === 갱신 (커밋 이후 호출) ===
+
+    public void onTagPostCountChanged(Long tagId, String title, int delta) {
+        if (delta > 0) {
+            indexes.tags.adjustOrPut(tagId, title, delta);
+        } else {
+            indexes.tags.adjust(tagId, delta);
+        }
+    }
+
+    public void onUserCreated(Long userId, String nickname, Long blogId, String blogTitle) {
+        Indexes current = indexes;
+        current.users.put(userId, nickname, 0);
+        current.blogs.put(blogId, blogTitle, 0);
+        current.blogIdByUser.put(userId, blogId);
+    }
+
+    public void onNicknameChanged(Long userId, String nickname) {
+        indexes.users.rename(userId, nickname);
+    }
+
+    public void onFollowerCountChanged(Long userId, int delta) {
+        Indexes current = indexes;
+        current.users.adjust(userId, delta);
+        Long blogId = current.blogIdByUser.get(userId);
+        if (blogId != null) {
+            current.blogs.adjust(blogId, delta);
+        }
+    }
+
+    public void onUserDeleted(Long userId) {
+        Indexes current = indexes;
+        current.users.remove(userId);
+        Long blogId = current.blogIdByUser.remove(userId);
+        if (blogId != null) {
+            current.blogs.remove(blogId);
+        }
+    }
+
+    // === 조회 ===
+
+    public List<PrefixIndex.Match> tags(String query, int limit) {
+        return search(indexes.tags, query, limit);
+    }
+
+    public List<PrefixIndex.Match> users(String query, int limit) {
+        return search(indexes.users, query, limit);
+    }
+
+    public List<PrefixIndex.Match> blogs(String query, int limit) {
+        return search(indexes.blogs, query, limit);
+    }
+
+    /**
+     * 초성이 섞인 검색어는 초성 키로 후보를 찾고, 완성된 음절 부분까지 맞는 항목만 남김
+     */
+    private static List<PrefixIndex.Match> search(PrefixIndex index, String query, int limit) {
+        String normalized = HangulUtils.normalize(query);
+        if (!HangulUtils.containsChoseong(normalized)) {
+            return index.search(normalized, limit);
+        }
+        return index.search(HangulUtils.choseong(normalized), limit,
+                key -> HangulUtils.startsWith(key, normalized));
+    }
+
+    // 원문 전체 + 각 단어부터 끝까지, 그리고 각각의 초성
+    private static Collection<String> keysOf(String text) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(HangulUtils.normalize(text));
+        for (int i = 1; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i - 1)) && !Character.isWhitespace(text.charAt(i))) {
+                keys.add(HangulUtils.normalize(text.substring(i)));
+            }
+        }
+        keys.remove("");
+        for (String key : List.copyOf(keys)) {
+            keys.add(HangulUtils.choseong(key));
+        }
+        return keys;
+    }
+
+    /**
+     * 재적재 시 통째로 교체하는 색인 묶음
+     */
+    private record Indexes(PrefixIndex tags, PrefixIndex users, PrefixIndex blogs, Map<Long, Long> blogIdByUser) {
+
+        static Indexes empty() {
+            return new Indexes(
+                    new PrefixIndex(SuggestIndex::keysOf),
+                    new PrefixIndex(SuggestIndex::keysOf),
+                    new PrefixIndex(SuggestIndex::keysOf),
+                    new ConcurrentHashMap<>());
+        }
+    }
+}
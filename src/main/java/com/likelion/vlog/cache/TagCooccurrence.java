@@ -0,0 +1,250 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.TagMapRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 동시 출현 행렬 (희소)
+ * - 태그별로 함께 붙은 적 있는 태그 ID(오름차순 long[])와 함께 붙은 공개 게시글 수(int[])만 보관
+ * - 기동 시 post_id 구간별로 tag_maps를 읽어 적재, 이후에는 게시글 태그가 바뀔 때 커밋 이후 증감
+ * - 기존 이웃의 수만 바뀌면 배열을 그 자리에서 갱신하고, 이웃이 생기거나 사라질 때만 배열을 새로 만듦
+ * - 적재(재적재) 중 들어온 증감은 보관했다가 새 행렬에 다시 적용한 뒤 교체
+ * - 적재 시작 직전에 커밋돼 적재에도 들어간 증감은 두 번 반영될 수 있으나 다음 재적재에서 보정됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagCooccurrence {
+
+    private static final int LOAD_RANGE_SIZE = 5_000;
+
+    private final TagMapRepository tagMapRepository;
+    private final PostRepository postRepository;
+
+    // tag_id -> 함께 붙은 태그와 횟수
+    private volatile Map<Long, Row> rows = new ConcurrentHashMap<>();
+
+    // 증감과 적재 완료(재적용 + 교체)를 직렬화, 읽기는 락 없음
+    private final Object deltaLock = new Object();
+    // 적재 중에만 non-null: 그동안 들어온 증감 (적용 순서대로)
+    private List<Delta> pending;
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${vlog.tag.cooccurrence-reload-cron:0 50 4 * * *}")
+    public void load() {
+        long started = System.nanoTime();
+        synchronized (deltaLock) {
+            pending = new ArrayList<>();
+        }
+
+        Map<Long, Map<Long, Integer>> counts = new HashMap<>();
+        long maxPostId = postRepository.findMaxId();
+
+        for (long fromId = 1; fromId <= maxPostId; fromId += LOAD_RANGE_SIZE) {
+            List<Object[]> pairs = tagMapRepository.findLivePostTagIdsBetween(fromId, fromId + LOAD_RANGE_SIZE - 1);
+            int start = 0;
+            for (int i = 1; i <= pairs.size(); i++) {
+                // 같은 post_id 묶음이 끝나면 그 게시글의 태그 쌍을 집계
+                if (i == pairs.size() || !pairs.get(i)[0].equals(pairs.get(start)[0])) {
+                    countPairs(pairs.subList(start, i), counts);
+                    start = i;
+                }
+            }
+        }
+
+        Map<Long, Row> loaded = new ConcurrentHashMap<>();
+        long entries = 0;
+        for (Map.Entry<Long, Map<Long, Integer>> entry : counts.entrySet()) {
+            Row row = Row.of(entry.getValue());
+            loaded.put(entry.getKey(), row);
+            entries += row.ids.length;
+        }
+
+        // 적재 중 들어온 증감을 순서대로 다시 적용한 뒤 교체
+        synchronized (deltaLock) {
+            for (Delta delta : pending) {
+                delta.applyTo(loaded);
+            }
+            rows = loaded;
+            pending = null;
+            ready = true;
+        }
+
+        log.info("TagCooccurrence loaded: tags={}, pairs={}, took={}ms",
+                loaded.size(), entries / 2, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // === 갱신 (커밋 이후 호출) ===
+
+    /**
+     * 게시글 하나에 붙은 태그 집합이 추가됨 (모든 쌍 +1)
+     */
+    public void add(Collection<Long> tagIds) {
+        apply(tagIds, 1);
+    }
+
+    /**
+     * 게시글 하나에 붙어 있던 태그 집합이 빠짐 (모든 쌍 -1)
+     */
+    public void remove(Collection<Long> tagIds) {
+        apply(tagIds, -1);
+    }
+
+    // === 조회 ===
+
+    /**
+     * 함께 붙은 횟수 상위 limit개 (횟수 내림차순, 같으면 tag_id 오름차순)
+     */
+    public List<Related> related(Long tagId, int limit) {
+        Row row = rows.get(tagId);
+        if (row == null || limit <= 0) {
+            return List.of();
+        }
+
+        Comparator<Related> order = Comparator.comparingInt(Related::count).reversed()
+                .thenComparingLong(Related::tagId);
+        PriorityQueue<Related> heap = new PriorityQueue<>(limit + 1, order.reversed());
+        long[] ids = row.ids;
+        int[] counts = row.counts;
+        for (int i = 0; i < ids.length; i++) {
+            int count = counts[i];
+            if (count <= 0) {
+                continue;
+            }
+            Related candidate = new Related(ids[i], count);
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (order.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        List<Related> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+
+    public record Related(long tagId, int count) {
+    }
+
+    private void apply(Collection<Long> tagIds, int amount) {
+        if (tagIds.size() < 2) {
+            return;
+        }
+        Delta delta = new Delta(tagIds.stream().mapToLong(Long::longValue).distinct().sorted().toArray(), amount);
+        synchronized (deltaLock) {
+            if (pending != null) {
+                pending.add(delta);
+            }
+            if (ready) {
+                delta.applyTo(rows);
+            }
+        }
+    }
+
+    /**
+     * 게시글 하나의 태그 집합에 대한 증감 한 건 (적재 중에는 재적용을 위해 보관)
+     */
+    private record Delta(long[] ids, int amount) {
+
+        void applyTo(Map<Long, Row> rows) {
+            for (long tagId : ids) {
+                rows.compute(tagId, (k, row) -> Row.apply(row, tagId, ids, amount));
+            }
+        }
+    }
+
+    private static void countPairs(List<Object[]> postTags, Map<Long, Map<Long, Integer>> counts) {
+        for (Object[] a : postTags) {
+            Long tagId = (Long) a[1];
+            for (Object[] b : postTags) {
+                Long other = (Long) b[1];
+                if (!tagId.equals(other)) {
+                    counts.computeIfAbsent(tagId, k -> new HashMap<>()).merge(other, 1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 태그의 행: 이웃 ID(오름차순)와 횟수
+     * - ids는 공개 후 수정하지 않음, counts는 compute 안에서만 수정
+     */
+    private static final class Row {
+        private final long[] ids;
+        private final int[] counts;
+
+        private Row(long[] ids, int[] counts) {
+            this.ids = ids;
+            this.counts = counts;
+        }
+
+        static Row of(Map<Long, Integer> neighbors) {
+            long[] ids = neighbors.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            int[] counts = new int[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                counts[i] = neighbors.get(ids[i]);
+            }
+            return new Row(ids, counts);
+        }
+
+        // self를 제외한 others 각각의 횟수에 delta를 더한 행 (비게 되면 null로 엔트리 제거)
+        static Row apply(Row row, long self, long[] others, int delta) {
+            long[] ids = row == null ? new long[0] : row.ids;
+            int[] counts = row == null ? new int[0] : row.counts;
+
+            List<Long> inserts = null;
+            boolean emptied = false;
+            for (long other : others) {
+                if (other == self) {
+                    continue;
+                }
+                int pos = Arrays.binarySearch(ids, other);
+                if (pos >= 0) {
+                    counts[pos] = Math.max(0, counts[pos] + delta);
+                    emptied |= counts[pos] == 0;
+                } else if (delta > 0) {
+                    if (inserts == null) {
+                        inserts = new ArrayList<>();
+                    }
+                    inserts.add(other);
+                }
+            }
+
+            if (inserts == null && !emptied) {
+                return row;
+            }
+            return rebuild(ids, counts, inserts == null ? List.of() : inserts, delta);
+        }
+
+        // 횟수 0인 이웃은 빼고, 새 이웃은 delta로 추가해 정렬된 새 배열 생성
+        private static Row rebuild(long[] ids, int[] counts, List<Long> inserts, int delta) {
+            Map<Long, Integer> merged = new TreeMap<>();
+            for (int i = 0; i < ids.length; i++) {
+                if (counts[i] > 0) {
+                    merged.put(ids[i], counts[i]);
+                }
+            }
+            for (Long other : inserts) {
+                merged.put(other, delta);
+            }
+            return merged.isEmpty() ? null : of(merged);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.repository.TagJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 제목 → tag_id 사전
+ * - 태그는 생성만 되고 제목이 바뀌거나 삭제되지 않으므로 한 번 확인한 ID는 계속 재사용
+ * - 사전에 없는 제목만 모아 INSERT(없을 때만) 1회 + 잠금 읽기 SELECT 1회로 ID 확보
+ * - 새로 만든 태그는 트랜잭션이 롤백될 수 있으므로 커밋 이후에만 사전에 등록
+ * - maxSize를 넘으면 더 등록하지 않음 (조회 결과는 그대로 반환)
+ */
+@Component
+@RequiredArgsConstructor
+public class TagDictionary {
+
+    private final TagJdbcRepository tagJdbcRepository;
+
+    private final Map<String, Long> idsByTitle = new ConcurrentHashMap<>();
+
+    @Value("${vlog.tag.dictionary-max-size:100000}")
+    private int maxSize;
+
+    /**
+     * 제목 목록의 tag_id 확보 (없는 태그는 생성), 입력 순서 유지
+     * - 호출하는 쪽 트랜잭션 안에서 실행되어야 함
+     */
+    public Map<String, Long> resolve(Collection<String> titles) {
+        Map<String, Long> resolved = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String title : titles) {
+            Long id = idsByTitle.get(title);
+            if (id != null) {
+                resolved.put(title, id);
+            } else {
+                resolved.put(title, null);
+                missing.add(title);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            tagJdbcRepository.insertIfAbsent(missing);
+            Map<String, Long> found = tagJdbcRepository.findIdsByTitles(missing);
+
+            // DB 콜레이션이 대소문자를 구분하지 않으면 저장된 제목과 요청 제목의 대소문자가 다를 수 있음
+            Map<String, Long> foundIgnoreCase = new HashMap<>();
+            found.forEach((title, id) -> foundIgnoreCase.put(title.toLowerCase(Locale.ROOT), id));
+
+            Map<String, Long> created = new HashMap<>();
+            for (String title : missing) {
+                Long id = found.getOrDefault(title, foundIgnoreCase.get(title.toLowerCase(Locale.ROOT)));
+                resolved.put(title, id);
+                created.put(title, id);
+            }
+            AfterCommit.run(() -> created.forEach(this::register));
+        }
+        return resolved;
+    }
+
+    /**
+     * 이미 확인한 태그의 ID (없으면 null, DB 조회 없음)
+     */
+    public Long find(String title) {
+        return idsByTitle.get(title);
+    }
+
+    /**
+     * 다른 경로로 확인한 태그 ID 등록
+     */
+    public void remember(String title, Long id) {
+        register(title, id);
+    }
+
+    private void register(String title, Long id) {
+        if (id != null && idsByTitle.size() < maxSize) {
+            idsByTitle.putIfAbsent(title, id);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.TagMapRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그별 공개 게시글 ID 목록 (역색인, 패싯 집계용)
+ * - 태그마다 post_id 오름차순 long[]만 보관하고, 변경 시에는 새 배열로 교체 (읽는 쪽은 락 없음)
+ * - 검색 결과 ID를 비트맵으로 만든 뒤 태그별 목록 중 결과 구간에 걸치는 부분만 비트 검사해 개수를 셈
+ * - 적재/재적재 방식은 TagCooccurrence와 같음 (post_id 구간별 읽기, 적재 중 들어온 갱신은 보관했다가 교체 전에 재적용)
+ * - 추가/삭제는 멱등이라 적재 결과에 이미 반영된 갱신을 다시 적용해도 결과가 같음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagPostings {
+
+    private static final int LOAD_RANGE_SIZE = 5_000;
+    private static final long[] EMPTY = new long[0];
+
+    private final TagMapRepository tagMapRepository;
+    private final PostRepository postRepository;
+
+    // tag_id -> 공개 게시글 ID (오름차순)
+    private volatile Map<Long, long[]> postings = new ConcurrentHashMap<>();
+
+    // 갱신과 적재 완료(재적용 + 교체)를 직렬화, 읽기는 락 없음
+    private final Object mutationLock = new Object();
+    // 적재 중에만 non-null: 그동안 들어온 갱신 (적용 순서대로)
+    private List<Mutation> pending;
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${vlog.tag.postings-reload-cron:0 52 4 * * *}")
+    public void load() {
+        long started = System.nanoTime();
+        synchronized (mutationLock) {
+            pending = new ArrayList<>();
+        }
+
+        Map<Long, LongArrayBuilder> builders = new HashMap<>();
+        long maxPostId = postRepository.findMaxId();
+
+        // post_id 순으로 읽으므로 태그별로 이어 붙이기만 해도 정렬 상태 유지
+        for (long fromId = 1; fromId <= maxPostId; fromId += LOAD_RANGE_SIZE) {
+            for (Object[] row : tagMapRepository.findLivePostTagIdsBetween(fromId, fromId + LOAD_RANGE_SIZE - 1)) {
+                builders.computeIfAbsent((Long) row[1], k -> new LongArrayBuilder()).add((Long) row[0]);
+            }
+        }
+
+        Map<Long, long[]> loaded = new ConcurrentHashMap<>();
+        long entries = 0;
+        for (Map.Entry<Long, LongArrayBuilder> entry : builders.entrySet()) {
+            long[] ids = entry.getValue().toArray();
+            loaded.put(entry.getKey(), ids);
+            entries += ids.length;
+        }
+
+        // 적재 중 들어온 갱신을 순서대로 다시 적용한 뒤 교체
+        synchronized (mutationLock) {
+            for (Mutation mutation : pending) {
+                mutation.applyTo(loaded);
+            }
+            postings = loaded;
+            pending = null;
+            ready = true;
+        }
+
+        log.info("TagPostings loaded: tags={}, entries={}, took={}ms",
+                loaded.size(), entries, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // === 갱신 (커밋 이후 호출) ===
+
+    public void add(Long postId, Collection<Long> tagIds) {
+        apply(new Mutation(true, postId, List.copyOf(tagIds)));
+    }
+
+    public void remove(Long postId, Collection<Long> tagIds) {
+        apply(new Mutation(false, postId, List.copyOf(tagIds)));
+    }
+
+    private void apply(Mutation mutation) {
+        synchronized (mutationLock) {
+            if (pending != null) {
+                pending.add(mutation);
+            }
+            if (ready) {
+                mutation.applyTo(postings);
+            }
+        }
+    }
+
+    /**
+     * 게시글 하나의 태그 목록 추가/삭제 (적재 중에는 재적용을 위해 보관)
+     */
+    private record Mutation(boolean add, Long postId, List<Long> tagIds) {
+
+        void applyTo(Map<Long, long[]> postings) {
+            for (Long tagId : tagIds) {
+                if (add) {
+                    postings.compute(tagId, (k, ids) -> insert(ids == null ? EMPTY : ids, postId));
+                } else {
+                    postings.computeIfPresent(tagId, (k, ids) -> delete(ids, postId));
+                }
+            }
+        }
+    }
+
+    // === 조회 ===
+
+    /**
+     * 결과 게시글 집합 안에서 태그별 게시글 수 상위 limit개 (개수 내림차순, 같으면 tag_id 오름차순)
+     * @param resultIds 검색 결과 post_id (순서 무관)
+     */
+    public List<Facet> facets(Collection<Long> resultIds, int limit) {
+        if (resultIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (Long id : resultIds) {
+            min = Math.min(min, id);
+            max = Math.max(max, id);
+        }
+        // 결과 구간 [min, max]만 덮는 비트맵
+        BitSet result = new BitSet((int) (max - min + 1));
+        for (Long id : resultIds) {
+            result.set((int) (id - min));
+        }
+
+        Comparator<Facet> order = Comparator.comparingInt(Facet::count).reversed()
+                .thenComparingLong(Facet::tagId);
+        PriorityQueue<Facet> heap = new PriorityQueue<>(limit + 1, order.reversed());
+        for (Map.Entry<Long, long[]> entry : postings.entrySet()) {
+            int count = countWithin(entry.getValue(), result, min, max);
+            if (count == 0) {
+                continue;
+            }
+            Facet candidate = new Facet(entry.getKey(), count);
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (order.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        List<Facet> facets = new ArrayList<>(heap);
+        facets.sort(order);
+        return facets;
+    }
+
+    public record Facet(long tagId, int count) {
+    }
+
+    // 정렬된 ids 중 [min, max] 구간만 훑으며 result 비트가 켜진 개수
+    private static int countWithin(long[] ids, BitSet result, long min, long max) {
+        int from = Arrays.binarySearch(ids, min);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        int count = 0;
+        for (int i = from; i < ids.length && ids[i] <= max; i++) {
+            if (result.get((int) (ids[i] - min))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long[] insert(long[] ids, long postId) {
+        int pos = Arrays.binarySearch(ids, postId);
+        if (pos >= 0) {
+            return ids;
+        }
+        int at = -pos - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        next[at] = postId;
+        System.arraycopy(ids, at, next, at + 1, ids.length - at);
+        return next;
+    }
+
+    // 비게 되면 null을 반환해 엔트리 제거
+    private static long[] delete(long[] ids, long postId) {
+        int pos = Arrays.binarySearch(ids, postId);
+        if (pos < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, pos);
+        System.arraycopy(ids, pos + 1, next, pos, ids.length - pos - 1);
+        return next;
+    }
+
+    private static final class LongArrayBuilder {
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.likelion.vlog.cache;
+
+import com.likelion.vlog.enums.TagSortField;
+import com.likelion.vlog.repository.TagMapRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 태그별 공개 게시글 수
+ * - 기동 시 한 번 집계해 적재하고, 이후에는 tag_maps 쓰기(게시글 작성/수정/삭제, 회원 탈퇴) 때 커밋 이후 증감
+ * - 목록 조회는 크기 limit인 힙으로 상위 limit개만 골라 정렬하므로 tag_maps GROUP BY가 필요 없음
+ * - 적재(재집계) 중 들어온 증감은 보관했다가 새 집계에 다시 적용한 뒤 교체
+ * - 적재 시작 직전에 커밋돼 집계에도 들어간 증감은 두 번 반영될 수 있으나 다음 재집계에서 보정됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagStatistics {
+
+    private static final Comparator<TagCount> BY_POPULARITY = Comparator
+            .comparingInt(TagCount::postCount).reversed()
+            .thenComparing(TagCount::title);
+
+    private static final Comparator<TagCount> BY_TITLE = Comparator
+            .comparing(TagCount::title, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(TagCount::title);
+
+    private final TagMapRepository tagMapRepository;
+
+    // tag_id -> (제목, 게시글 수)
+    private volatile Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    // 증감과 적재 완료(재적용 + 교체)를 직렬화, 읽기는 락 없음
+    private final Object deltaLock = new Object();
+    // 적재 중에만 non-null: 그동안 들어온 증감 (적용 순서대로)
+    private List<Delta> pending;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${vlog.tag.stats-reload-cron:0 45 4 * * *}")
+    public void load() {
+        long started = System.nanoTime();
+        synchronized (deltaLock) {
+            pending = new ArrayList<>();
+        }
+
+        Map<Long, Counter> loaded = new ConcurrentHashMap<>();
+        for (Object[] row : tagMapRepository.countLivePostsByTag()) {
+            loaded.put((Long) row[0], new Counter((String) row[1], ((Long) row[2]).intValue()));
+        }
+
+        // 적재 중 들어온 증감을 순서대로 다시 적용한 뒤 교체
+        synchronized (deltaLock) {
+            for (Delta delta : pending) {
+                delta.applyTo(loaded);
+            }
+            counters = loaded;
+            pending = null;
+        }
+
+        log.info("TagStatistics loaded: tags={}, took={}ms", loaded.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public void increment(Long tagId, String title) {
+        apply(new Delta(tagId, title, 1));
+    }
+
+    public void decrement(Long tagId, int amount) {
+        apply(new Delta(tagId, null, -amount));
+    }
+
+    private void apply(Delta delta) {
+        synchronized (deltaLock) {
+            if (pending != null) {
+                pending.add(delta);
+            }
+            delta.applyTo(counters);
+        }
+    }
+
+    // 알고 있는 태그 제목 (없으면 null)
+    public String titleOf(Long tagId) {
+        Counter counter = counters.get(tagId);
+        return counter == null ? null : counter.title;
+    }
+
+    /**
+     * 게시글이 있는 태그 중 정렬 기준 상위 limit개
+     * - prefix가 있으면 제목이 그 문자열로 시작하는 태그만 (대소문자 무시)
+     * - 힙 크기를 limit으로 유지하므로 O(n log limit)
+     */
+    public List<TagCount> top(TagSortField sort, String prefix, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Comparator<TagCount> order = sort == TagSortField.TITLE ? BY_TITLE : BY_POPULARITY;
+        String normalizedPrefix = prefix == null ? "" : prefix.trim();
+
+        // 루트가 현재 후보 중 가장 뒤에 올 항목인 힙
+        PriorityQueue<TagCount> heap = new PriorityQueue<>(limit + 1, order.reversed());
+        for (Counter counter : counters.values()) {
+            int postCount = counter.count.get();
+            if (postCount <= 0 || !startsWithIgnoreCase(counter.title, normalizedPrefix)) {
+                continue;
+            }
+            TagCount candidate = new TagCount(counter.title, postCount);
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (order.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        List<TagCount> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+
+    private static boolean startsWithIgnoreCase(String title, String prefix) {
+        return title.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    public record TagCount(String title, int postCount) {
+    }
+
+    /**
+     * 게시글 수 증감 한 건 (적재 중에는 재적용을 위해 보관, 감소는 제목 없이 이미 아는 태그에만)
+     */
+    private record Delta(Long tagId, String title, int amount) {
+
+        void applyTo(Map<Long, Counter> counters) {
+            if (amount > 0) {
+                counters.computeIfAbsent(tagId, k -> new Counter(title, 0)).add(amount);
+                return;
+            }
+            Counter counter = counters.get(tagId);
+            if (counter != null) {
+                counter.add(amount);
+            }
+        }
+    }
+
+    private static final class Counter {
+        private final String title;
+        private final AtomicInteger count;
+
+        private Counter(String title, int count) {
+            this.title = title;
+            this.count = new AtomicInteger(count);
+        }
+
+        private void add(int delta) {
+            count.updateAndGet(current -> Math.max(0, current + delta));
+        }
+    }
+}
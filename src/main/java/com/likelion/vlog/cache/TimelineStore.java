@@ -0,0 +1,93 @@
+package com.likelion.vlog.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 홈 피드 타임라인 (fan-out-on-write)
+ * - 팔로우한 작성자의 postId를 최신순(내림차순) long[]로 보관, 사용자당 timelineSize개로 제한
+ * - 피드를 한 번이라도 조회한 사용자만 타임라인을 가짐 (그 외 사용자는 push 생략)
+ * - 일정 시간 조회가 없으면 메모리에서 제거, 다음 조회 시 DB에서 재구성
+ */
+@Component
+public class TimelineStore {
+
+    private final Map<Long, Timeline> timelines = new ConcurrentHashMap<>();
+
+    @Value("${vlog.feed.timeline-size:500}")
+    private int timelineSize;
+
+    @Value("${vlog.feed.timeline-idle-minutes:60}")
+    private long idleMinutes;
+
+    public int getTimelineSize() {
+        return timelineSize;
+    }
+
+    /**
+     * 타임라인 조회 (없으면 null)
+     * - 반환 배열은 내부 스냅샷이므로 수정 금지
+     */
+    public long[] get(Long userId) {
+        Timeline timeline = timelines.computeIfPresent(userId, (k, t) -> t.touch());
+        return timeline == null ? null : timeline.postIds();
+    }
+
+    /**
+     * DB에서 재구성한 타임라인 저장 (postIds는 내림차순)
+     */
+    public void put(Long userId, long[] postIds) {
+        long[] capped = postIds.length > timelineSize ? Arrays.copyOf(postIds, timelineSize) : postIds;
+        timelines.put(userId, new Timeline(capped, System.currentTimeMillis()));
+    }
+
+    /**
+     * 새 게시글을 팔로워 타임라인에 추가 (타임라인이 있는 사용자만)
+     */
+    public void push(Long userId, long postId) {
+        timelines.computeIfPresent(userId, (k, t) -> t.insert(postId, timelineSize));
+    }
+
+    public void invalidate(Long userId) {
+        timelines.remove(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${vlog.feed.timeline-evict-interval-ms:300000}")
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(idleMinutes);
+        timelines.values().removeIf(t -> t.lastAccess() < threshold);
+    }
+
+    private record Timeline(long[] postIds, long lastAccess) {
+
+        Timeline touch() {
+            return new Timeline(postIds, System.currentTimeMillis());
+        }
+
+        // 내림차순 유지하며 삽입 (커밋 순서가 뒤바뀐 게시글도 제자리에), 넘치면 가장 오래된 것 제거
+        Timeline insert(long postId, int capacity) {
+            int at = 0;
+            while (at < postIds.length && postIds[at] > postId) {
+                at++;
+            }
+            if (at < postIds.length && postIds[at] == postId) {
+                return this;
+            }
+            if (at >= capacity) {
+                return this;
+            }
+            int length = Math.min(postIds.length + 1, capacity);
+            long[] next = new long[length];
+            System.arraycopy(postIds, 0, next, 0, at);
+            next[at] = postId;
+            System.arraycopy(postIds, at, next, at + 1, length - at - 1);
+            return new Timeline(next, lastAccess);
+        }
+    }
+}
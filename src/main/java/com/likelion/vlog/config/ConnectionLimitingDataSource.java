@@ -0,0 +1,113 @@
+package com.likelion.vlog.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션 풀 크기만큼만 커넥션을 내주는 DataSource
+ * - 가상 스레드로 요청을 처리하면 동시 요청 수가 스레드 수로 제한되지 않으므로, 풀 앞에 같은 크기의 공정 세마포어를 둠
+ * - 대기 시간을 넘기면 SQLTransientConnectionException (트랜잭션 시작 실패 → 503)
+ * - 허가는 Connection.close()에서 한 번만 반납
+ * - 빈으로 등록된 풀을 감싸므로 종료 시 close()를 대상 풀에 넘김 (감싸면 Hikari의 close가 추론되지 않아 풀이 남음)
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore permits;
+    private final long waitTimeoutMillis;
+    private final Counter rejected;
+
+    public ConnectionLimitingDataSource(DataSource target, String poolName, int maxConnections, long waitTimeoutMillis,
+                                        MeterRegistry meterRegistry) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+
+        Gauge.builder("vlog.datasource.permits.waiting", permits, Semaphore::getQueueLength)
+                .description("커넥션 허가를 기다리는 스레드 수")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("vlog.datasource.permits.rejected")
+                .description("대기 시간 초과로 커넥션을 받지 못한 요청 수")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return guarded(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return guarded(() -> super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable target) {
+            target.close();
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(waitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new SQLTransientConnectionException("커넥션 대기 시간 초과 (" + waitTimeoutMillis + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("커넥션 대기 중 인터럽트", e);
+        }
+    }
+
+    // 커넥션을 못 받으면 허가를 바로 반납하고, 받으면 close 시 반납하도록 감쌈
+    private Connection guarded(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            permits.release();
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,89 @@
+package com.likelion.vlog.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅 (vlog.datasource.replica-urls가 있을 때만)
+ * - primary 풀은 spring.datasource 설정 그대로 만들고, 복제본 풀은 같은 계정/드라이버로 URL만 바꿔 생성
+ * - 가상 스레드 모드면 복제본 풀도 ConnectionLimitingDataSource로 감쌈 (primary는 VirtualThreadConfig가 처리)
+ * - 애플리케이션이 쓰는 DataSource는 LazyConnectionDataSourceProxy → ReplicaRoutingDataSource 순
+ */
+@Configuration
+@ConditionalOnExpression("!'${vlog.datasource.replica-urls:}'.isBlank()")
+public class DataSourceRoutingConfig implements DisposableBean {
+
+    private final List<HikariDataSource> replicaPools = new ArrayList<>();
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${vlog.datasource.replica-urls}") List<String> replicaUrls,
+            @Value("${vlog.datasource.replica-max-pool-size:10}") int maxPoolSize,
+            @Value("${vlog.datasource.replica-connection-timeout-ms:1000}") long connectionTimeoutMillis,
+            @Value("${vlog.datasource.replica-lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${vlog.datasource.replica-lag-column:Seconds_Behind_Source}") String lagColumn,
+            @Value("${vlog.datasource.replica-max-lag:5s}") Duration maxLag,
+            @Value("${vlog.datasource.replica-check-ms:5000}") long checkIntervalMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${vlog.virtual-threads.connection-wait-timeout-ms:2000}") long connectionWaitMillis) {
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource pool = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(replicaUrls.get(i).trim())
+                    .build();
+            pool.setPoolName(name);
+            pool.setMaximumPoolSize(maxPoolSize);
+            pool.setConnectionTimeout(connectionTimeoutMillis);
+            pool.setReadOnly(true);
+            // 복제본이 내려가 있어도 기동은 계속 (상태 확인에서 제외됨)
+            pool.setInitializationFailTimeout(-1);
+            replicaPools.add(pool);
+
+            replicas.put(name, virtualThreads
+                    ? new ConnectionLimitingDataSource(pool, name, maxPoolSize, connectionWaitMillis, meterRegistry)
+                    : pool);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, lagQuery, lagColumn, maxLag,
+                Duration.ofMillis(checkIntervalMillis), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Override
+    public void destroy() {
+        replicaPools.forEach(HikariDataSource::close);
+    }
+}
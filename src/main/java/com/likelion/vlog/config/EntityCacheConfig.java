@@ -0,0 +1,85 @@
+package com.likelion.vlog.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine, 인스턴스 로컬)
+ * - 자주 읽고 거의 바뀌지 않는 User/Blog/Tag 엔티티와 태그 제목 자연 키 영역만 둠 (로그인 조회는 캐시 미사용)
+ * - 영역마다 최대 개수(W-TinyLFU 제거)와 만료 시간을 vlog.entity-cache.<영역>.* 로 조정
+ * - 만료 기준(write/access)과 적중/실패 지표(cache.gets 등, JCache 통계)는 vlog.entity-cache.* 공통 설정
+ * - 선언하지 않은 영역을 Hibernate가 요구하면 기동 실패 (크기 제한 없는 캐시가 생기지 않도록)
+ */
+@Configuration
+@ConditionalOnProperty(name = "vlog.entity-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class EntityCacheConfig {
+
+    // 영역 이름 -> (기본 최대 개수, 기본 만료 시간)
+    private static final Map<String, Region> REGIONS = Map.of(
+            "users", new Region(10_000, Duration.ofMinutes(10)),
+            "blogs", new Region(10_000, Duration.ofMinutes(10)),
+            "tags", new Region(50_000, Duration.ofHours(1)),
+            "tags-natural-id", new Region(50_000, Duration.ofHours(1)));
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(Environment environment, MeterRegistry meterRegistry) {
+        boolean expireAfterAccess = "access".equalsIgnoreCase(
+                environment.getProperty("vlog.entity-cache.expiry", "write"));
+        boolean statistics = environment.getProperty("vlog.entity-cache.stats-enabled", Boolean.class, true);
+
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        REGIONS.forEach((name, defaults) -> {
+            long maxSize = environment.getProperty("vlog.entity-cache." + name + ".max-size", Long.class,
+                    defaults.maxSize());
+            Duration ttl = environment.getProperty("vlog.entity-cache." + name + ".ttl", Duration.class,
+                    defaults.ttl());
+
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            // Hibernate 캐시 항목은 분해된 불변 상태이므로 직렬화 복사 없이 참조로 보관
+            configuration.setStoreByValue(false);
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            if (expireAfterAccess) {
+                configuration.setExpireAfterAccess(OptionalLong.of(ttl.toNanos()));
+            } else {
+                configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            }
+            configuration.setStatisticsEnabled(statistics);
+
+            Cache<Object, Object> cache = cacheManager.createCache(name, configuration);
+            if (statistics) {
+                JCacheMetrics.monitor(meterRegistry, cache);
+            }
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernateProperties(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private record Region(long maxSize, Duration ttl) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.likelion.vlog.config;
+
+import com.likelion.vlog.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 한 요청 안의 독립적인 읽기 쿼리를 가상 스레드에서 동시에 실행
+ * - 작업마다 자기 읽기 전용 트랜잭션(= 별도 커넥션)을 엶, 호출 스레드의 트랜잭션/영속성 컨텍스트는 공유하지 않음
+ * - 결과는 요청 단위 마감 시각(deadline)까지 기다리고, 넘기면 남은 작업을 취소한 뒤 503
+ * - 호출 스레드의 SecurityContext를 작업에 넘겨 읽기 라우팅의 사용자별 primary 고정이 병렬 조회에도 적용되게 함
+ * - 호출 스레드가 이미 트랜잭션(= 커넥션)을 잡고 있으면 호출 스레드에서 바로 실행
+ *   (커넥션을 쥔 채 작업용 커넥션을 또 기다리면 요청 하나가 커넥션을 여러 개 묶어 동시 요청이 많을 때 풀이 바닥남)
+ * - 비활성화하면 호출 스레드에서 바로 실행 (호출 쪽이 트랜잭션 밖이면 같은 읽기 전용 트랜잭션으로 감쌈)
+ * - 가상 스레드 모드와는 함께 켤 수 없음 (기동 실패): 그 모드의 커넥션 세마포어는 풀 크기만큼만 허가를 주므로
+ *   요청들이 허가를 나눠 쥔 채 작업용 허가를 기다리면 대기 시간 초과(503)로 끝남
+ */
+@Slf4j
+@Component
+public class ParallelQueryExecutor implements AutoCloseable {
+
+    private final ExecutorService executor = new DelegatingSecurityContextExecutorService(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("parallel-query-", 0).factory()));
+    private final TransactionTemplate readOnly;
+    private final boolean enabled;
+    private final long timeoutNanos;
+
+    public ParallelQueryExecutor(PlatformTransactionManager transactionManager,
+                                 @Value("${vlog.parallel-query.enabled:false}") boolean enabled,
+                                 @Value("${vlog.parallel-query.timeout-ms:3000}") long timeoutMillis,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (enabled && virtualThreads) {
+            throw new IllegalStateException(
+                    "vlog.parallel-query.enabled와 spring.threads.virtual.enabled는 함께 켤 수 없음");
+        }
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.enabled = enabled;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * 지금부터 설정된 제한 시간 뒤의 마감 시각 (System.nanoTime 기준)
+     */
+    public long deadline() {
+        return System.nanoTime() + timeoutNanos;
+    }
+
+    public <T> Future<T> submit(Supplier<T> query) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return CompletableFuture.completedFuture(query.get());
+        }
+        if (!enabled) {
+            return CompletableFuture.completedFuture(readOnly.execute(status -> query.get()));
+        }
+        return executor.submit(() -> readOnly.execute(status -> query.get()));
+    }
+
+    /**
+     * 마감 시각까지 결과를 기다림 (넘기면 작업 취소 후 503)
+     */
+    public <T> T join(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Parallel query timed out");
+            throw ServiceUnavailableException.queryTimeout();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("병렬 조회 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -1,8 +1,18 @@
 package com.likelion.vlog.config;
 
 import com.likelion.vlog.exception.AuthEntryPoint;
+import com.likelion.vlog.repository.AuthSessionRepository;
+import com.likelion.vlog.security.BoundedPasswordEncoder;
+import com.likelion.vlog.security.DeletedAccountFilter;
+import com.likelion.vlog.security.DeletedAccounts;
+import com.likelion.vlog.security.PersistentSecurityContextRepository;
+import com.likelion.vlog.security.TokenAuthenticationFilter;
+import com.likelion.vlog.security.TokenProvider;
+import com.likelion.vlog.security.TokenRevocationList;
 import com.likelion.vlog.service.AuthService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -11,14 +21,24 @@ import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.security.web.session.HttpSessionEventPublisher;
 
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.time.Duration;
+import java.util.Map;
+
 import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
@@ -26,6 +46,34 @@ import static org.springframework.security.config.Customizer.withDefaults;
 public class ProjectSecurityConfig {
 
     private final CorsConfigurationSource corsConfigurationSource;
+    private final TokenProvider tokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final DeletedAccounts deletedAccounts;
+    private final AuthSessionRepository authSessionRepository;
+
+    // session: HttpSession에 SecurityContext 저장 / token: 서명 토큰으로 요청마다 인증 (서버 세션 없음)
+    @Value("${vlog.auth.mode:session}")
+    private String authMode;
+
+    // session 모드의 저장소 - memory: 톰캣 HttpSession / jdbc: auth_sessions 테이블
+    @Value("${vlog.auth.session-store:memory}")
+    private String sessionStore;
+
+    @Value("${vlog.auth.session-timeout:30m}")
+    private Duration sessionTimeout;
+
+    @Value("${vlog.auth.session-cookie.secure:false}")
+    private boolean sessionCookieSecure;
+
+    @Value("${vlog.auth.session-cookie.same-site:Lax}")
+    private String sessionCookieSameSite;
+
+    @Value("${vlog.auth.session-near-cache-ttl:5s}")
+    private Duration sessionNearCacheTtl;
+
+    // actuator 전용 포트 (management.server.port), 지표는 이 포트로 들어온 요청만 허용
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
     public HttpSessionEventPublisher httpSessionEventPublisher() {
@@ -35,6 +83,22 @@ public class ProjectSecurityConfig {
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
+        boolean tokenMode = isTokenMode();
+
+        // 모드별 공개 인증 API
+        String[] authEndpoints = tokenMode
+                ? new String[]{
+                        "/api/v1/auth/signup",        //회원가입
+                        "/api/v1/auth/token",         //토큰 발급
+                        "/api/v1/auth/token/refresh", //토큰 재발급
+                        "/api/v1/auth/token/revoke"   //토큰 폐기
+                }
+                : new String[]{
+                        "/api/v1/auth/signup", //회원가입
+                        "/api/v1/auth/login", //로그인
+                        "/api/v1/auth/token/**" //토큰 API는 session 모드에서 매핑되지 않음 → 401 대신 404
+                };
+
         http
                 .csrf(csrf -> csrf.disable());
 
@@ -42,23 +106,32 @@ public class ProjectSecurityConfig {
         http.cors(cors -> cors.configurationSource(corsConfigurationSource));
 
         http.authorizeHttpRequests(auth -> auth
+                        // 인증 O: 아래 /api/v1/users/** 공개 규칙보다 먼저 매칭되어야 함
+                        .requestMatchers(HttpMethod.GET,
+                                "/api/v1/users/me/suggestions" //팔로우 추천
+                        ).authenticated()
+
                         // 인증 X
                         .requestMatchers(HttpMethod.GET,
                                 "/api/v1/users/**", //사용자 조회
                                 "/api/v1/tags/**", //태그 조회
+                                "/api/v1/suggest", //자동완성
                                 "/api/v1/posts/**" //게시글 조회
                         ).permitAll()
 
-                        .requestMatchers(HttpMethod.POST,
-                                "/api/v1/auth/signup", //회원가입
-                                "/api/v1/auth/login" //로그인
-                        ).permitAll()
+                        .requestMatchers(HttpMethod.POST, authEndpoints).permitAll()
 
                         .requestMatchers(HttpMethod.GET,
                                 "/",       // 루트 경로
                                 "/health"  // 헬스 체크 엔드포인트 (EC2 모니터링용)
                         ).permitAll()
 
+                        // actuator 헬스/지표 (해시 풀 대기열 등) - 관리 포트로 들어온 요청만, 서비스 포트에서는 아래 denyAll
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && (request.getRequestURI().startsWith("/actuator/health")
+                                || request.getRequestURI().startsWith("/actuator/metrics"))
+                        ).permitAll()
+
                 .requestMatchers(HttpMethod.GET,
                         "/api/v1/users/*",      // 사용자 프로필 조회
                         "/api/v1/posts",        // 전체 게시글 조회
@@ -90,6 +163,10 @@ public class ProjectSecurityConfig {
                         "/api/v1/users/*/follows"                 // 팔로우
                 ).authenticated()
 
+                .requestMatchers(HttpMethod.GET,
+                        "/api/v1/feed"                           // 피드 조회
+                ).authenticated()
+
                 .requestMatchers(HttpMethod.PUT,
                         "/api/v1/users/*",                       // 사용자 정보 수정 (본인 검증은 별도)
                         "/api/v1/posts/*",                       // 게시글 수정 (작성자 검증은 별도)
@@ -119,9 +196,25 @@ public class ProjectSecurityConfig {
                 .securityContextRepository(securityContextRepository())
         );
 
-        http.sessionManagement(session -> session
-                .sessionFixation().migrateSession()
-        );
+        if (tokenMode) {
+            http.sessionManagement(session -> session
+                    .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            );
+            http.addFilterBefore(new TokenAuthenticationFilter(tokenProvider, tokenRevocationList),
+                    UsernamePasswordAuthenticationFilter.class);
+        } else if (isJdbcSessionStore()) {
+            // 로그인 상태는 auth_sessions에만 두고 HttpSession은 만들지 않음
+            http.sessionManagement(session -> session
+                    .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            );
+        } else {
+            http.sessionManagement(session -> session
+                    .sessionFixation().migrateSession()
+            );
+        }
+
+        // 탈퇴한 계정의 남은 세션/토큰은 익명으로 취급
+        http.addFilterBefore(new DeletedAccountFilter(deletedAccounts), AnonymousAuthenticationFilter.class);
 
         // 인증 실패 에러 처리
         http.exceptionHandling(hbc
@@ -132,12 +225,28 @@ public class ProjectSecurityConfig {
     }
 
     @Bean
-    public HttpSessionSecurityContextRepository securityContextRepository() {
+    public SecurityContextRepository securityContextRepository() {
+        // 토큰 모드: 요청 범위에만 보관 (세션 생성 안 함)
+        if (isTokenMode()) {
+            return new RequestAttributeSecurityContextRepository();
+        }
+        if (isJdbcSessionStore()) {
+            return new PersistentSecurityContextRepository(authSessionRepository, "VLOG_SESSION",
+                    sessionCookieSecure, sessionCookieSameSite, sessionTimeout, sessionNearCacheTtl, 10_000);
+        }
         HttpSessionSecurityContextRepository repository = new HttpSessionSecurityContextRepository();
         repository.setSpringSecurityContextKey(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
         return repository;
     }
 
+    private boolean isTokenMode() {
+        return "token".equalsIgnoreCase(authMode);
+    }
+
+    private boolean isJdbcSessionStore() {
+        return "jdbc".equalsIgnoreCase(sessionStore);
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(
             AuthService authService,
@@ -146,11 +255,28 @@ public class ProjectSecurityConfig {
         // 레퍼지토리 기반 인증 제공자 설정
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider(authService);
         provider.setPasswordEncoder(passwordEncoder); // 비밀번호 검증 인코더 지정
+        provider.setUserDetailsPasswordService(authService); // 비용 계수가 바뀌면 로그인 시 재해시
         return new ProviderManager(provider);
     }
 
-    @Bean //인코더
-    public PasswordEncoder passwordEncoder(){
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    /**
+     * 인코더
+     * - 기존 해시와 호환되도록 {bcrypt} 접두어를 쓰는 DelegatingPasswordEncoder 유지 ({noop}은 data.sql 시드용, 로그인 시 bcrypt로 교체됨)
+     * - 비용 계수는 배포 환경별로 조정, 올리면 기존 사용자는 다음 로그인 때 새 계수로 재해시됨
+     * - 해시는 크기가 제한된 전용 풀에서만 수행 (BoundedPasswordEncoder)
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${vlog.password.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${vlog.password.hash-threads:0}") int hashThreads,
+            @Value("${vlog.password.hash-queue-capacity:64}") int queueCapacity,
+            @Value("${vlog.password.hash-wait-timeout-ms:3000}") long waitTimeoutMillis,
+            MeterRegistry meterRegistry
+    ) {
+        PasswordEncoder bcrypt = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength),
+                        "noop", NoOpPasswordEncoder.getInstance()));
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(bcrypt, threads, queueCapacity, waitTimeoutMillis, meterRegistry);
     }
 }
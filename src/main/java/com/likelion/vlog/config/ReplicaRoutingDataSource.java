@@ -0,0 +1,185 @@
+package com.likelion.vlog.config;
+
+import com.likelion.vlog.cache.AfterCommit;
+import com.likelion.vlog.security.AuthUser;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 읽기 복제본으로 보내는 DataSource
+ * - 쓰기 트랜잭션, 트랜잭션 밖 접근은 항상 primary
+ * - 읽기 전용 트랜잭션은 정상 복제본 중 라운드 로빈, 정상 복제본이 없으면 primary
+ * - 쓰기를 커밋한 사용자는 잠시 읽기도 primary (방금 쓴 글/댓글이 안 보이는 문제 방지, 인스턴스 로컬)
+ *   고정 시간 = 최대 허용 지연 + 상태 확인 주기 (확인 사이에 그만큼 뒤처진 복제본이 아직 목록에 남아 있을 수 있음)
+ * - 조회수 증가처럼 사용자가 결과를 다시 읽을 필요가 없는 쓰기는 markNonSticky()로 표시해 고정하지 않음
+ * - 복제본은 주기적으로 연결 + 복제 지연을 확인해 maxLag를 넘거나 복제가 멈추면 제외
+ * - 트랜잭션의 읽기 전용 여부는 커넥션을 실제로 받을 때 정해지므로 LazyConnectionDataSourceProxy 뒤에 둠
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    // 현재 트랜잭션에 바인딩되는 non-sticky 표시의 리소스 키
+    private static final Object NON_STICKY = new Object();
+
+    private final Map<String, DataSource> replicas;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+    private final long stickyMillis;
+
+    private final AtomicInteger next = new AtomicInteger();
+    // userId -> primary 고정 만료 시각 (epoch ms)
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+    private volatile List<String> healthy = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    String lagQuery, String lagColumn, Duration maxLag, Duration checkInterval,
+                                    MeterRegistry meterRegistry) {
+        this.replicas = Map.copyOf(replicas);
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.stickyMillis = maxLag.plus(checkInterval).toMillis();
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        Gauge.builder("vlog.datasource.replicas.healthy", this, ds -> ds.healthy.size())
+                .description("읽기 라우팅 대상인 정상 복제본 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkReplicas();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && !TransactionSynchronizationManager.hasResource(NON_STICKY)) {
+                AfterCommit.run(() -> stickyUntil.put(userId, System.currentTimeMillis() + stickyMillis));
+            }
+            return PRIMARY;
+        }
+        if (userId != null && isSticky(userId)) {
+            return PRIMARY;
+        }
+        List<String> candidates = healthy;
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        String replica = candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+        log.debug("Read-only transaction routed to {}", replica);
+        return replica;
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션이 커밋되어도 사용자를 primary에 고정하지 않도록 표시
+     * - 트랜잭션 안에서 첫 쿼리 전에 호출 (커넥션을 실제로 받을 때 라우팅이 정해짐)
+     * - 표시는 트랜잭션 리소스로 바인딩되어 트랜잭션이 끝나면 해제됨
+     */
+    public static void markNonSticky() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(NON_STICKY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(NON_STICKY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(NON_STICKY);
+            }
+        });
+    }
+
+    /**
+     * 복제본 상태 확인 (연결 + 복제 지연), 만료된 primary 고정도 함께 정리
+     */
+    @Scheduled(fixedDelayString = "${vlog.datasource.replica-check-ms:5000}")
+    public void checkReplicas() {
+        List<String> alive = new ArrayList<>();
+        for (Map.Entry<String, DataSource> replica : new TreeMap<>(replicas).entrySet()) {
+            if (isHealthy(replica.getKey(), replica.getValue())) {
+                alive.add(replica.getKey());
+            }
+        }
+        List<String> previous = healthy;
+        healthy = List.copyOf(alive);
+        if (!previous.equals(healthy)) {
+            log.info("Healthy replicas changed: {} -> {}", previous, healthy);
+        }
+
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until < now);
+    }
+
+    private boolean isHealthy(String name, DataSource replica) {
+        try (Connection connection = replica.getConnection()) {
+            if (!StringUtils.hasText(lagQuery)) {
+                return connection.isValid(1);
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(lagQuery)) {
+                if (!rs.next()) {
+                    // 복제 상태가 없으면 복제본이 아님 (지연 없음으로 취급)
+                    return true;
+                }
+                Object lag = rs.getObject(lagColumn);
+                if (lag == null) {
+                    log.warn("Replica {} excluded: replication stopped", name);
+                    return false;
+                }
+                long seconds = ((Number) lag).longValue();
+                if (seconds > maxLagSeconds) {
+                    log.warn("Replica {} excluded: lag={}s (max {}s)", name, seconds, maxLagSeconds);
+                    return false;
+                }
+                return true;
+            }
+        } catch (SQLException e) {
+            log.warn("Replica {} excluded: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isSticky(Long userId) {
+        Long until = stickyUntil.get(userId);
+        return until != null && until >= System.currentTimeMillis();
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.getUserId();
+        }
+        return null;
+    }
+}
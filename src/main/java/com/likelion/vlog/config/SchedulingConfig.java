@@ -0,0 +1,13 @@
+package com.likelion.vlog.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 배치성 작업(@Scheduled) 활성화
+ * - 스케줄러 스레드 수는 spring.task.scheduling.pool.size (기본 1이면 긴 배치 동안 다른 주기 작업이 밀림)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,39 @@
+package com.likelion.vlog.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 가상 스레드 요청 처리 모드 (spring.threads.virtual.enabled=true)
+ * - 톰캣 요청, @Scheduled, 병렬 조회가 모두 가상 스레드에서 실행되므로 동시 DB 접근은 커넥션 풀이 유일한 한도
+ * - Hikari 앞에 풀 크기만큼의 세마포어를 두어 대기 순서를 공정하게 하고, 대기 시간을 넘기면 빠르게 503
+ * - 빈으로 등록된 풀만 대상 (읽기 복제본 풀은 DataSourceRoutingConfig가 직접 감쌈)
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        long waitTimeoutMillis = environment.getProperty(
+                "vlog.virtual-threads.connection-wait-timeout-ms", Long.class, 2000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConnectionLimitingDataSource(hikari, hikari.getPoolName(), hikari.getMaximumPoolSize(),
+                            waitTimeoutMillis, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
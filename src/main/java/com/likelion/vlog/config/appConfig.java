@@ -2,7 +2,9 @@ package com.likelion.vlog.config;
 
 import com.likelion.vlog.enums.SearchFiled;
 import com.likelion.vlog.enums.SortField;
+import com.likelion.vlog.enums.SuggestType;
 import com.likelion.vlog.enums.TagMode;
+import com.likelion.vlog.enums.TagSortField;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -15,5 +17,7 @@ public class appConfig implements WebMvcConfigurer {
         registry.addConverter(String.class, SortField.class, SortField::from);
         registry.addConverter(String.class, SearchFiled.class, SearchFiled::from);
         registry.addConverter(String.class, TagMode.class, TagMode::from);
+        registry.addConverter(String.class, TagSortField.class, TagSortField::from);
+        registry.addConverter(String.class, SuggestType.class, SuggestType::from);
     }
 }
@@ -5,7 +5,10 @@ import com.likelion.vlog.dto.auth.LoginRequest;
 import com.likelion.vlog.dto.auth.SignupRequest;
 import com.likelion.vlog.dto.common.ApiResponse;
 import com.likelion.vlog.dto.users.UserGetResponse;
+import com.likelion.vlog.security.AuthUser;
+import com.likelion.vlog.security.TokenProvider;
 import com.likelion.vlog.service.AuthService;
+import com.likelion.vlog.service.TokenAuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,6 +17,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -31,6 +36,10 @@ public class AuthController {
     private final AuthService authService;
     private final AuthenticationManager authenticationManager;
     private final SecurityContextRepository securityContextRepository;
+    private final TokenAuthService tokenAuthService;
+
+    @Value("${vlog.auth.mode:session}")
+    private String authMode;
 
     @Operation(summary = "회원가입", description = "이메일, 비밀번호, 닉네임으로 회원가입")
     @PostMapping("/signup")
@@ -60,12 +69,21 @@ public class AuthController {
         // 사용자 정보 조회 및 반환
         return ResponseEntity.ok(ApiResponse.success(
                 "로그인 성공",
-                authService.getUserInfo(authentication.getName())));
+                authService.getUserInfo(((AuthUser) authentication.getPrincipal()).getUserId())));
     }
 
-    @Operation(summary = "로그아웃", description = "세션 무효화 및 로그아웃")
+    @Operation(summary = "로그아웃", description = "세션 무효화 및 로그아웃 (token 모드: 현재 액세스 토큰과 그 로그인의 리프레시 토큰 폐기)")
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<String>> logout(HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<String>> logout(HttpServletRequest request, HttpServletResponse response,
+                                                      @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        // 토큰 모드: 세션이 없으므로 제시한 액세스 토큰을 폐기 목록에 올리고 같은 로그인의 리프레시 토큰 삭제
+        if ("token".equalsIgnoreCase(authMode)) {
+            tokenAuthService.revoke(null, TokenProvider.bearerToken(authorization));
+        }
+
+        // 저장소에 빈 컨텍스트 저장 → 세션 저장소(jdbc)의 행/쿠키 삭제
+        securityContextRepository.saveContext(SecurityContextHolder.createEmptyContext(), request, response);
+
         HttpSession session = request.getSession(false);
 
         if (session != null) {
@@ -2,6 +2,7 @@ package com.likelion.vlog.controller;
 
 import com.likelion.vlog.dto.comments.*;
 import com.likelion.vlog.dto.common.ApiResponse;
+import com.likelion.vlog.security.AuthUser;
 import com.likelion.vlog.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,7 +11,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -37,9 +37,9 @@ public class CommentController {
     public ResponseEntity<ApiResponse<CommentPostResponse>> createComment(
             @PathVariable Long postId,
             @Valid @RequestBody CommentCreatePostRequest request,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser) {
 
-        CommentPostResponse response = commentService.createComment(postId, request, userDetails.getUsername());
+        CommentPostResponse response = commentService.createComment(postId, request, authUser);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("댓글 작성 성공", response));
     }
@@ -50,9 +50,9 @@ public class CommentController {
             @PathVariable Long postId,
             @PathVariable Long commentId,
             @Valid @RequestBody CommentUpdatePutRequest request,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser) {
 
-        CommentPutResponse response = commentService.updateComment(postId, commentId, request, userDetails.getUsername());
+        CommentPutResponse response = commentService.updateComment(postId, commentId, request, authUser);
         return ResponseEntity.ok(ApiResponse.success("댓글 수정 성공", response));
     }
 
@@ -61,9 +61,9 @@ public class CommentController {
     public ResponseEntity<ApiResponse<?>> deleteComment(
             @PathVariable Long postId,
             @PathVariable Long commentId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser) {
 
-        commentService.deleteComment(postId, commentId, userDetails.getUsername());
+        commentService.deleteComment(postId, commentId, authUser.getUserId());
         return ResponseEntity.ok(ApiResponse.success("댓글 삭제 성공"));
     }
 
@@ -73,9 +73,9 @@ public class CommentController {
             @PathVariable Long postId,
             @PathVariable Long commentId,
             @Valid @RequestBody ReplyCreatePostRequest request,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser) {
 
-        ReplyPostResponse response = commentService.createReply(postId, commentId, request, userDetails.getUsername());
+        ReplyPostResponse response = commentService.createReply(postId, commentId, request, authUser);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("답글 작성 성공", response));
     }
@@ -87,9 +87,9 @@ public class CommentController {
             @PathVariable Long commentId,
             @PathVariable Long replyId,
             @Valid @RequestBody ReplyUpdatePutRequest request,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser) {
 
-        ReplyPutResponse response = commentService.updateReply(postId, commentId, replyId, request, userDetails.getUsername());
+        ReplyPutResponse response = commentService.updateReply(postId, commentId, replyId, request, authUser);
         return ResponseEntity.ok(ApiResponse.success("답글 수정 성공", response));
     }
 
@@ -99,9 +99,9 @@ public class CommentController {
             @PathVariable Long postId,
             @PathVariable Long commentId,
             @PathVariable Long replyId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser) {
 
-        commentService.deleteReply(postId, commentId, replyId, userDetails.getUsername());
+        commentService.deleteReply(postId, commentId, replyId, authUser.getUserId());
         return ResponseEntity.ok(ApiResponse.success("답글 삭제 성공"));
     }
 }
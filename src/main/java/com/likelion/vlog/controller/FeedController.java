@@ -0,0 +1,32 @@
+package com.likelion.vlog.controller;
+
+import com.likelion.vlog.dto.common.ApiResponse;
+import com.likelion.vlog.dto.feed.FeedGetResponse;
+import com.likelion.vlog.security.AuthUser;
+import com.likelion.vlog.service.FeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "피드", description = "팔로우한 사용자의 게시글 피드 API")
+@RestController
+@RequestMapping("/api/v1/feed")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedService feedService;
+
+    @Operation(summary = "피드 조회", description = "팔로우한 사용자의 최신 게시글 (커서 페이징, 인증 필요)")
+    @GetMapping
+    public ResponseEntity<ApiResponse<FeedGetResponse>> getFeed(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal AuthUser authUser) {
+
+        FeedGetResponse response = feedService.getFeed(authUser.getUserId(), cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("피드 조회 성공", response));
+    }
+}
@@ -3,10 +3,13 @@ package com.likelion.vlog.controller;
 import com.likelion.vlog.dto.common.ApiResponse;
 import com.likelion.vlog.dto.follows.FollowDeleteResponse;
 import com.likelion.vlog.dto.follows.FollowPostResponse;
+import com.likelion.vlog.dto.follows.FollowSuggestionGetResponse;
 import com.likelion.vlog.dto.follows.FollowerGetResponse;
 import com.likelion.vlog.dto.follows.FollowingGetResponse;
 import com.likelion.vlog.dto.follows.PageResponse;
+import com.likelion.vlog.security.AuthUser;
 import com.likelion.vlog.service.FollowService;
+import com.likelion.vlog.service.FollowSuggestionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -15,9 +18,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "팔로우", description = "팔로우/언팔로우 및 팔로워/팔로잉 조회 API")
 @RestController
 @RequestMapping("/api/v1/users")
@@ -25,14 +29,15 @@ import org.springframework.web.bind.annotation.*;
 public class FollowController {
 
     private final FollowService followService;
+    private final FollowSuggestionService followSuggestionService;
 
     @Operation(summary = "팔로우", description = "사용자 팔로우 (인증 필요)")
     @PostMapping("/{user_id}/follows")
     public ResponseEntity<ApiResponse<FollowPostResponse>> follow(
             @PathVariable("user_id") Long userId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser) {
 
-        FollowPostResponse response = followService.follow(userId, userDetails.getUsername());
+        FollowPostResponse response = followService.follow(userId, authUser.getUserId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("팔로우 완료", response));
     }
@@ -41,9 +46,9 @@ public class FollowController {
     @DeleteMapping("/{user_id}/follows")
     public ResponseEntity<ApiResponse<FollowDeleteResponse>> unfollow(
             @PathVariable("user_id") Long userId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser) {
 
-        FollowDeleteResponse response = followService.unfollow(userId, userDetails.getUsername());
+        FollowDeleteResponse response = followService.unfollow(userId, authUser.getUserId());
         return ResponseEntity.ok()
                 .body(ApiResponse.success("언팔로우 완료", response));
     }
@@ -85,4 +90,14 @@ public class FollowController {
                 ApiResponse.success("팔로잉 목록 조회 성공", response)
         );
     }
+
+    @Operation(summary = "팔로우 추천", description = "내가 팔로우하는 사람들이 많이 팔로우하는 사용자 추천 (인증 필요)")
+    @GetMapping("/me/suggestions")
+    public ResponseEntity<ApiResponse<List<FollowSuggestionGetResponse>>> getSuggestions(
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal AuthUser authUser) {
+
+        List<FollowSuggestionGetResponse> response = followSuggestionService.getSuggestions(authUser.getUserId(), size);
+        return ResponseEntity.ok(ApiResponse.success("팔로우 추천 조회 성공", response));
+    }
 }
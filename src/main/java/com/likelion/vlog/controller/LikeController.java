@@ -2,13 +2,13 @@ package com.likelion.vlog.controller;
 
 import com.likelion.vlog.dto.common.ApiResponse;
 import com.likelion.vlog.dto.like.LikeResponse;
+import com.likelion.vlog.security.AuthUser;
 import com.likelion.vlog.service.LikeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "좋아요", description = "게시글 좋아요 API")
@@ -23,11 +23,11 @@ public class LikeController {
     @GetMapping
     public ResponseEntity<ApiResponse<LikeResponse>> getLikes(
             @PathVariable Long postId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser) {
 
-        String email = (userDetails != null) ? userDetails.getUsername() : null;
+        Long userId = (authUser != null) ? authUser.getUserId() : null;
 
-        LikeResponse response = likeService.getLikeInfo(email, postId);
+        LikeResponse response = likeService.getLikeInfo(userId, postId);
 
         return ResponseEntity.ok(
                 ApiResponse.success("좋아요 조회 성공", response)
@@ -60,8 +60,8 @@ public class LikeController {
     @PostMapping
     public ResponseEntity<ApiResponse<LikeResponse>> addLike(
             @PathVariable Long postId,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        LikeResponse response = likeService.addLike(userDetails.getUsername(), postId);
+            @AuthenticationPrincipal AuthUser authUser) {
+        LikeResponse response = likeService.addLike(authUser.getUserId(), postId);
         return ResponseEntity.ok(ApiResponse.success("좋아요 추가 성공", response));
     }
 
@@ -69,8 +69,8 @@ public class LikeController {
     @DeleteMapping
     public ResponseEntity<ApiResponse<LikeResponse>> removeLike(
             @PathVariable Long postId,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        LikeResponse response = likeService.removeLike(userDetails.getUsername(), postId);
+            @AuthenticationPrincipal AuthUser authUser) {
+        LikeResponse response = likeService.removeLike(authUser.getUserId(), postId);
         return ResponseEntity.ok(ApiResponse.success("좋아요 취소 성공", response));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.likelion.vlog.controller;
 
 import com.likelion.vlog.dto.common.ApiResponse;
 import com.likelion.vlog.dto.posts.*;
+import com.likelion.vlog.security.AuthUser;
 import com.likelion.vlog.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,7 +15,6 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -40,8 +40,10 @@ public class PostController {
 
     @Operation(summary = "게시글 상세 조회", description = "댓글 포함 게시글 상세 정보 조회")
     @GetMapping("/{postId}")
-    public ResponseEntity<ApiResponse<PostGetResponse>> getPost(@PathVariable Long postId) {
-        PostGetResponse response = postService.getPost(postId);
+    public ResponseEntity<ApiResponse<PostGetResponse>> getPost(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal AuthUser authUser) {
+        PostGetResponse response = postService.getPost(postId, authUser == null ? null : authUser.getUserId());
         return ResponseEntity.ok(ApiResponse.success("게시글 조회 성공", response));
     }
 
@@ -49,9 +51,9 @@ public class PostController {
     @PostMapping
     public ResponseEntity<ApiResponse<PostGetResponse>> createPost(
             @Valid @RequestBody PostCreatePostRequest request,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser) {
 
-        PostGetResponse response = postService.createPost(request, userDetails.getUsername());
+        PostGetResponse response = postService.createPost(request, authUser);
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("게시글 작성 성공", response));
     }
 
@@ -60,9 +62,9 @@ public class PostController {
     public ResponseEntity<ApiResponse<PostGetResponse>> updatePost(
             @PathVariable Long postId,
             @Valid @RequestBody PostUpdatePutRequest request,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser) {
 
-        PostGetResponse response = postService.updatePost(postId, request, userDetails.getUsername());
+        PostGetResponse response = postService.updatePost(postId, request, authUser);
         return ResponseEntity.ok(ApiResponse.success("게시글 수정 성공", response));
     }
 
@@ -70,9 +72,9 @@ public class PostController {
     @DeleteMapping("/{postId}")
     public ResponseEntity<Void> deletePost(
             @PathVariable Long postId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser) {
 
-        postService.deletePost(postId, userDetails.getUsername());
+        postService.deletePost(postId, authUser.getBlogId());
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.likelion.vlog.controller;
+
+import com.likelion.vlog.dto.common.ApiResponse;
+import com.likelion.vlog.dto.suggest.SuggestGetResponse;
+import com.likelion.vlog.enums.SuggestType;
+import com.likelion.vlog.service.SuggestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "자동완성", description = "검색어 자동완성 API")
+@RestController
+@RequestMapping("/api/v1/suggest")
+@RequiredArgsConstructor
+public class SuggestController {
+
+    private final SuggestService suggestService;
+
+    @Operation(summary = "자동완성", description = "q로 시작하는 태그/닉네임/블로그 제목을 인기순으로 조회, type(tag|user|blog)으로 한 종류만 조회")
+    @GetMapping
+    public ResponseEntity<ApiResponse<SuggestGetResponse>> suggest(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "type", required = false) SuggestType type,
+            @RequestParam(name = "size", defaultValue = "5") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success("자동완성 조회 성공", suggestService.suggest(query, type, size)));
+    }
+}
@@ -1,16 +1,17 @@
 package com.likelion.vlog.controller;
 
 import com.likelion.vlog.dto.common.ApiResponse;
+import com.likelion.vlog.dto.tags.TagCountGetResponse;
 import com.likelion.vlog.dto.tags.TagGetResponse;
+import com.likelion.vlog.dto.tags.TagListGetRequest;
 import com.likelion.vlog.service.TagService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
 
 @Tag(name = "태그", description = "태그 조회 API")
 @RestController
@@ -20,6 +21,21 @@ public class TagController {
 
     private  final TagService tagService;
 
+    @Operation(summary = "태그 목록 조회", description = "태그별 게시글 수와 함께 인기순(popular) 또는 이름순(title)으로 조회, prefix로 앞글자 필터")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<TagCountGetResponse>>> getTags(@ModelAttribute TagListGetRequest request) {
+        return ResponseEntity.ok(ApiResponse.success("태그 목록 조회 성공", tagService.getTags(request)));
+    }
+
+    @Operation(summary = "관련 태그 조회", description = "같은 게시글에 함께 가장 많이 붙은 태그와 그 횟수")
+    @GetMapping("/{title}/related")
+    public ResponseEntity<ApiResponse<List<TagCountGetResponse>>> getRelatedTags(
+            @PathVariable(name = "title") String title,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success("관련 태그 조회 성공", tagService.getRelatedTags(title, size)));
+    }
+
     @Operation(summary = "태그 조회", description = "태그 이름으로 태그 정보 조회")
     @GetMapping("/{title}")
     public ResponseEntity<ApiResponse<TagGetResponse>> getTag(
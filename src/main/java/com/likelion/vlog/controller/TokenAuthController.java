@@ -0,0 +1,58 @@
+package com.likelion.vlog.controller;
+
+import com.likelion.vlog.dto.auth.LoginRequest;
+import com.likelion.vlog.dto.auth.TokenRefreshRequest;
+import com.likelion.vlog.dto.auth.TokenResponse;
+import com.likelion.vlog.dto.common.ApiResponse;
+import com.likelion.vlog.security.AuthUser;
+import com.likelion.vlog.security.TokenProvider;
+import com.likelion.vlog.service.TokenAuthService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 토큰 인증 API (vlog.auth.mode=token일 때만 등록, session 모드에서는 404)
+ */
+@Tag(name = "인증", description = "회원가입, 로그인, 로그아웃 API")
+@RestController
+@RequestMapping("/api/v1/auth/token")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "vlog.auth.mode", havingValue = "token")
+public class TokenAuthController {
+    private final TokenAuthService tokenAuthService;
+    private final AuthenticationManager authenticationManager;
+
+    @Operation(summary = "토큰 발급", description = "이메일, 비밀번호로 액세스/리프레시 토큰 발급 (vlog.auth.mode=token)")
+    @PostMapping
+    public ResponseEntity<ApiResponse<TokenResponse>> issueToken(@Valid @RequestBody LoginRequest req) {
+        Authentication authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(req.getEmail(), req.getPassword())
+        );
+        TokenResponse response = tokenAuthService.issue((AuthUser) authentication.getPrincipal());
+        return ResponseEntity.ok(ApiResponse.success("토큰 발급 성공", response));
+    }
+
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 토큰 발급 (사용한 리프레시 토큰은 폐기)")
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<TokenResponse>> refreshToken(@Valid @RequestBody TokenRefreshRequest req) {
+        TokenResponse response = tokenAuthService.refresh(req.getRefreshToken());
+        return ResponseEntity.ok(ApiResponse.success("토큰 재발급 성공", response));
+    }
+
+    @Operation(summary = "토큰 폐기", description = "리프레시 토큰과 현재 액세스 토큰 폐기 (토큰 모드 로그아웃)")
+    @PostMapping("/revoke")
+    public ResponseEntity<ApiResponse<String>> revokeToken(@Valid @RequestBody TokenRefreshRequest req,
+                                                           @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        tokenAuthService.revoke(req.getRefreshToken(), TokenProvider.bearerToken(authorization));
+        return ResponseEntity.ok(ApiResponse.success("토큰 폐기 성공"));
+    }
+}
@@ -3,13 +3,20 @@ package com.likelion.vlog.controller;
 import com.likelion.vlog.dto.common.ApiResponse;
 import com.likelion.vlog.dto.users.UserGetResponse;
 import com.likelion.vlog.dto.users.UserUpdateRequest;
+import com.likelion.vlog.security.AuthUser;
 import com.likelion.vlog.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "사용자", description = "사용자 정보 조회/수정/탈퇴 API")
@@ -18,16 +25,24 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
+    private final SecurityContextRepository securityContextRepository;
 
     @Operation(summary = "회원정보 수정", description = "사용자 정보 수정 (인증 필요)")
     @PutMapping("/{user_id}")
     public ResponseEntity<ApiResponse<UserGetResponse>> updateUser(
             @PathVariable("user_id") Long userId,
             @RequestBody UserUpdateRequest userUpdateRequest,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser,
+            HttpServletRequest request,
+            HttpServletResponse response) {
 
-        String email = userDetails.getUsername();
-        return ResponseEntity.ok(ApiResponse.success("회원정보 수정 성공", userService.updateUser(userId, userUpdateRequest, email)));
+        UserGetResponse userGetResponse = userService.updateUser(userId, userUpdateRequest, authUser.getUserId());
+
+        // 세션의 principal이 들고 있는 닉네임도 함께 갱신
+        if (!userGetResponse.getNickname().equals(authUser.getNickname())) {
+            refreshPrincipal(authUser.withNickname(userGetResponse.getNickname()), request, response);
+        }
+        return ResponseEntity.ok(ApiResponse.success("회원정보 수정 성공", userGetResponse));
     }
 
     @Operation(summary = "회원탈퇴", description = "회원 탈퇴 (비밀번호 확인 필요)")
@@ -35,10 +50,19 @@ public class UserController {
     public ResponseEntity<ApiResponse<String>> deleteUser(
             @PathVariable("user_id") Long userId,
             @RequestBody UserUpdateRequest userUpdateRequest,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        userService.deleteUser(userId, userUpdateRequest.getPassword(), authUser.getUserId());
 
-        String email = userDetails.getUsername();
-        userService.deleteUser(userId, userUpdateRequest.getPassword(), email);
+        // 현재 로그인 상태도 정리 (다른 기기의 세션/토큰은 서비스에서 삭제)
+        securityContextRepository.saveContext(SecurityContextHolder.createEmptyContext(), request, response);
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+        SecurityContextHolder.clearContext();
         return ResponseEntity.ok(ApiResponse.success("회원탈퇴 성공"));
     }
 
@@ -47,4 +71,12 @@ public class UserController {
     public ResponseEntity<ApiResponse<UserGetResponse>> getUser(@PathVariable("user_id") Long userId) {
         return ResponseEntity.ok(ApiResponse.success("회원정보 조회 성공", userService.getUser(userId)));
     }
-}
\ No newline at end of file
+
+    private void refreshPrincipal(AuthUser principal, HttpServletRequest request, HttpServletResponse response) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+        securityContextRepository.saveContext(context, request, response);
+    }
+}
@@ -0,0 +1,13 @@
+package com.likelion.vlog.dto.auth;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+
+/**
+ * POST /auth/token/refresh, /auth/token/revoke 요청 객체
+ */
+@Getter
+public class TokenRefreshRequest {
+    @NotBlank
+    private String refreshToken;
+}
@@ -0,0 +1,19 @@
+package com.likelion.vlog.dto.auth;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * POST /auth/token, /auth/token/refresh 응답 객체
+ */
+@Getter
+@Builder
+public class TokenResponse {
+    private String tokenType;
+    private String accessToken;
+    private Instant accessTokenExpiresAt;
+    private String refreshToken;
+    private Instant refreshTokenExpiresAt;
+}
@@ -20,10 +20,17 @@ public class CommentPostResponse {
     private LocalDateTime createdAt;
 
     public static CommentPostResponse from(Comment comment) {
+        return of(comment, AuthorResponse.from(comment.getUser()));
+    }
+
+    /**
+     * 작성자를 직접 지정 (작성 직후 로그인 사용자 정보로 응답)
+     */
+    public static CommentPostResponse of(Comment comment, AuthorResponse author) {
         return CommentPostResponse.builder()
                 .commentId(comment.getId())
                 .content(comment.getContent())
-                .author(AuthorResponse.from(comment.getUser()))
+                .author(author)
                 .createdAt(comment.getCreatedAt())
                 .build();
     }
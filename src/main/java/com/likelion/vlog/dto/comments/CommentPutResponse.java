@@ -20,10 +20,14 @@ public class CommentPutResponse {
     private LocalDateTime updatedAt;
 
     public static CommentPutResponse from(Comment comment) {
+        return of(comment, AuthorResponse.from(comment.getUser()));
+    }
+
+    public static CommentPutResponse of(Comment comment, AuthorResponse author) {
         return CommentPutResponse.builder()
                 .commentId(comment.getId())
                 .content(comment.getContent())
-                .author(AuthorResponse.from(comment.getUser()))
+                .author(author)
                 .updatedAt(comment.getUpdatedAt())
                 .build();
     }
@@ -21,10 +21,15 @@ public class ReplyPostResponse {
     private LocalDateTime createdAt;
 
     public static ReplyPostResponse from(Comment reply) {
+        return of(reply, AuthorResponse.from(reply.getUser()));
+    }
+
+    // 작성자를 직접 지정
+    public static ReplyPostResponse of(Comment reply, AuthorResponse author) {
         return ReplyPostResponse.builder()
                 .replyId(reply.getId())
                 .content(reply.getContent())
-                .author(AuthorResponse.from(reply.getUser()))
+                .author(author)
                 .parentCommentId(reply.getParent().getId())
                 .createdAt(reply.getCreatedAt())
                 .build();
@@ -21,10 +21,14 @@ public class ReplyPutResponse {
     private LocalDateTime updatedAt;
 
     public static ReplyPutResponse from(Comment reply) {
+        return of(reply, AuthorResponse.from(reply.getUser()));
+    }
+
+    public static ReplyPutResponse of(Comment reply, AuthorResponse author) {
         return ReplyPutResponse.builder()
                 .replyId(reply.getId())
                 .content(reply.getContent())
-                .author(AuthorResponse.from(reply.getUser()))
+                .author(author)
                 .parentCommentId(reply.getParent().getId())
                 .updatedAt(reply.getUpdatedAt())
                 .build();
@@ -0,0 +1,27 @@
+package com.likelion.vlog.dto.feed;
+
+import com.likelion.vlog.dto.posts.PostListGetResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GET /api/v1/feed 응답 객체 (커서 페이징)
+ * - nextCursor: 다음 요청의 cursor 값 (마지막 게시글 ID), 다음 페이지가 없으면 null
+ */
+@Getter
+@Builder
+public class FeedGetResponse {
+    private List<PostListGetResponse> content;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    public static FeedGetResponse of(List<PostListGetResponse> content, Long nextCursor) {
+        return FeedGetResponse.builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.likelion.vlog.dto.follows;
+
+import com.likelion.vlog.entity.User;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 팔로우 추천 목록 조회
+ * GET api/v1/users/me/suggestions 응답 객체
+ * - mutualCount: 내가 팔로우하는 사람 중 이 사용자를 팔로우하는 사람 수
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class FollowSuggestionGetResponse {
+    private Long userId;
+    private String nickname;
+    private long mutualCount;
+
+    public static FollowSuggestionGetResponse of(User user, long mutualCount) {
+        return FollowSuggestionGetResponse.builder()
+                .userId(user.getId())
+                .nickname(user.getNickname())
+                .mutualCount(mutualCount)
+                .build();
+    }
+}
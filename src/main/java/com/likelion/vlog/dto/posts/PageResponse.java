@@ -1,5 +1,7 @@
 package com.likelion.vlog.dto.posts;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.likelion.vlog.dto.tags.TagCountGetResponse;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
@@ -17,6 +19,9 @@ public class PageResponse<T> {
     private List<T> content;        // 실제 데이터 목록
     private PageInfo pageInfo;      // 페이징 메타 정보
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<TagCountGetResponse> facets;   // 결과 안의 태그별 게시글 수 (요청한 경우만)
+
     @Getter
     @Builder
     public static class PageInfo {
@@ -34,8 +39,16 @@ public class PageResponse<T> {
      * @param content 변환된 DTO 목록
      */
     public static <T> PageResponse<T> of(Page<?> page, List<T> content) {
+        return of(page, content, null);
+    }
+
+    /**
+     * 태그 패싯 포함 (facets가 null이면 응답에서 생략)
+     */
+    public static <T> PageResponse<T> of(Page<?> page, List<T> content, List<TagCountGetResponse> facets) {
         return PageResponse.<T>builder()
                 .content(content)
+                .facets(facets)
                 .pageInfo(PageInfo.builder()
                         .page(page.getNumber())
                         .size(page.getSize())
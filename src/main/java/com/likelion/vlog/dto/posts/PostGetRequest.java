@@ -28,6 +28,16 @@ public class PostGetRequest {
     private SortField sort = SortField.CREATED_AT;
     private boolean asc;
 
+    // true면 결과 안의 태그별 게시글 수(facets)도 함께 응답
+    private boolean facets;
+
+    // 키워드/블로그/태그 중 하나라도 걸러내는 조건이 있는지
+    public boolean hasFilter() {
+        return (keyword != null && !keyword.isBlank())
+                || (blogId != null && blogId > 0)
+                || (tag != null && !tag.isEmpty());
+    }
+
     public void normalize() {
         if (tag == null) tag = List.of();
     }
@@ -21,13 +21,14 @@ public class PostGetResponse {
     private List<String> tags;
     private List<CommentWithRepliesGetResponse> comments;
     private Integer viewCount;
+    private Boolean isLiked;        // 로그인한 조회자가 좋아요를 눌렀는지 (비로그인이면 false)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     /**
-     * 정적 팩토리 메서드 (댓글 포함)
+     * 정적 팩토리 메서드 (댓글, 조회자 좋아요 여부 포함 - 상세 조회용)
      */
-    public static PostGetResponse of(Post post, List<String> tags, List<CommentWithRepliesGetResponse> comments) {
+    public static PostGetResponse of(Post post, List<String> tags, List<CommentWithRepliesGetResponse> comments, boolean liked) {
         return PostGetResponse.builder()
                 .postId(post.getId())
                 .title(post.getTitle())
@@ -36,6 +37,7 @@ public class PostGetResponse {
                 .tags(tags)
                 .comments(comments)
                 .viewCount(post.getViewCount())
+                .isLiked(liked)
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
@@ -45,6 +47,25 @@ public class PostGetResponse {
      * 정적 팩토리 메서드 (댓글 미포함 - 작성/수정 응답용)
      */
     public static PostGetResponse of(Post post, List<String> tags) {
-        return of(post, tags, List.of());
+        return of(post, tags, List.of(), false);
+    }
+
+    /**
+     * 정적 팩토리 메서드 (댓글 미포함, 작성자 직접 지정)
+     * - 작성/수정 직후에는 로그인 사용자 정보로 작성자를 채워 Blog/User 지연 로딩을 피함
+     */
+    public static PostGetResponse of(Post post, List<String> tags, AuthorResponse author) {
+        return PostGetResponse.builder()
+                .postId(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .author(author)
+                .tags(tags)
+                .comments(List.of())
+                .viewCount(post.getViewCount())
+                .isLiked(false)
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
     }
 }
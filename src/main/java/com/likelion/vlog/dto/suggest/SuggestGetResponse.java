@@ -0,0 +1,18 @@
+package com.likelion.vlog.dto.suggest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GET /api/v1/suggest 응답 객체
+ * - type을 지정하면 해당 목록만 채우고 나머지는 빈 목록
+ */
+@Getter
+@Builder
+public class SuggestGetResponse {
+    private List<SuggestItemResponse> tags;
+    private List<SuggestItemResponse> users;
+    private List<SuggestItemResponse> blogs;
+}
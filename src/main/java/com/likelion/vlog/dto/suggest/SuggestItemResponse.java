@@ -0,0 +1,26 @@
+package com.likelion.vlog.dto.suggest;
+
+import com.likelion.vlog.cache.PrefixIndex;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 자동완성 후보 하나
+ * - id: 태그는 tagId, 사용자는 userId, 블로그는 blogId
+ * - score: 태그는 게시글 수, 사용자/블로그는 팔로워 수
+ */
+@Getter
+@Builder
+public class SuggestItemResponse {
+    private Long id;
+    private String text;
+    private Integer score;
+
+    public static SuggestItemResponse from(PrefixIndex.Match match) {
+        return SuggestItemResponse.builder()
+                .id(match.id())
+                .text(match.text())
+                .score(match.weight())
+                .build();
+    }
+}
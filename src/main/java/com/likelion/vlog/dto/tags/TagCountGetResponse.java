@@ -0,0 +1,21 @@
+package com.likelion.vlog.dto.tags;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * GET /api/v1/tags 응답 객체 (태그별 게시글 수)
+ */
+@Getter
+@Builder
+public class TagCountGetResponse {
+    private String title;
+    private Integer postCount;
+
+    public static TagCountGetResponse of(String title, int postCount) {
+        return TagCountGetResponse.builder()
+                .title(title)
+                .postCount(postCount)
+                .build();
+    }
+}
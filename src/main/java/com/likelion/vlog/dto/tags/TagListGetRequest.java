@@ -0,0 +1,26 @@
+package com.likelion.vlog.dto.tags;
+
+import com.likelion.vlog.enums.TagSortField;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * GET /api/v1/tags 요청 파라미터
+ * - 요청: ?sort=popular&prefix=spr&size=20
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TagListGetRequest {
+
+    private static final int MAX_SIZE = 100;
+
+    private TagSortField sort = TagSortField.POPULAR;
+    private String prefix;
+    private Integer size = 30;
+
+    public int limit() {
+        return size == null || size <= 0 ? 0 : Math.min(size, MAX_SIZE);
+    }
+}
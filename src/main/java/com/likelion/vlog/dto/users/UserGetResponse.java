@@ -12,6 +12,8 @@ public class UserGetResponse { //유저 상세정보
     private String nickname;
     private Long blogId;
     private String blogTitle;
+    private Integer followerCount;
+    private Integer followingCount;
 
     public static UserGetResponse of(User user){
         Long id = user.getId();
@@ -19,6 +21,8 @@ public class UserGetResponse { //유저 상세정보
         String nickname = user.getNickname();
         Long blogId = user.getBlog().getId();
         String blogTitle = user.getBlog().getTitle();
-        return new UserGetResponse(id, email, nickname, blogId, blogTitle);
+        Integer followerCount = user.getFollowerCount();
+        Integer followingCount = user.getFollowingCount();
+        return new UserGetResponse(id, email, nickname, blogId, blogTitle, followerCount, followingCount);
     }
 }
@@ -0,0 +1,71 @@
+package com.likelion.vlog.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * 로그인 세션 (vlog.auth.session-store=jdbc)
+ * - 키는 쿠키 값의 SHA-256 해시, 값은 principal을 직렬화한 짧은 바이너리
+ * - 톰캣 메모리가 아닌 DB에 있으므로 재배포/다중 인스턴스에서도 유지
+ * - 키를 직접 넣는 엔티티라 save()가 merge(SELECT 후 INSERT)로 가지 않도록 Persistable로 새 엔티티임을 알림
+ */
+@Entity
+@Getter
+@Table(
+        name = "auth_sessions",
+        indexes = {
+                @Index(name = "idx_auth_sessions_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_auth_sessions_user_id", columnList = "user_id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuthSession implements Persistable<String> {
+
+    @Id
+    @Column(name = "session_key", length = 64)
+    private String sessionKey;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "VARBINARY(512)")
+    private byte[] payload;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // of()로 만든 뒤 저장 전까지만 true (조회/저장된 엔티티는 false)
+    @Transient
+    private boolean newSession;
+
+    public static AuthSession of(String sessionKey, Long userId, byte[] payload, Instant expiresAt) {
+        AuthSession session = new AuthSession();
+        session.sessionKey = sessionKey;
+        session.userId = userId;
+        session.payload = payload;
+        session.expiresAt = expiresAt;
+        session.newSession = true;
+        return session;
+    }
+
+    @Override
+    public String getId() {
+        return sessionKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newSession;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        newSession = false;
+    }
+}
@@ -1,14 +1,20 @@
 package com.likelion.vlog.entity;
 
+import com.likelion.vlog.util.HangulUtils;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
-@Table(name = "blogs")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "blogs")
+@Table(name = "blogs",
+        indexes = @Index(name = "idx_blogs_title_choseong", columnList = "title_choseong")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Blog extends BaseEntity {
 
@@ -23,6 +29,10 @@ public class Blog extends BaseEntity {
     @Column(nullable = false)
     private String title;
 
+    // 제목의 초성 (초성 검색용 그림자 컬럼)
+    @Column(name = "title_choseong")
+    private String titleChoseong;
+
     /**
      * 블로그 생성 (회원가입 시 자동 생성)
      * - 기본 타이틀: "{닉네임}의 블로그"
@@ -31,6 +41,7 @@ public class Blog extends BaseEntity {
         Blog blog = new Blog();
         blog.user = user;
         blog.title = user.getNickname() + "의 블로그";
+        blog.titleChoseong = HangulUtils.choseong(blog.title);
         return blog;
     }
 }
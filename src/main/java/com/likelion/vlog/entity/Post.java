@@ -1,16 +1,23 @@
 package com.likelion.vlog.entity;
 
+import com.likelion.vlog.util.HangulUtils;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "posts")
+@Table(name = "posts",
+        indexes = {
+                @Index(name = "idx_posts_deleted_at", columnList = "deleted_at"),
+                @Index(name = "idx_posts_title_choseong", columnList = "title_choseong")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseEntity {
 
@@ -20,6 +27,10 @@ public class Post extends BaseEntity {
 
     private String title;
 
+    // 제목의 초성 (공백 제거, 소문자) - 초성/혼합 검색어를 REGEXP 없이 비교하기 위한 그림자 컬럼
+    @Column(name = "title_choseong")
+    private String titleChoseong;
+
     @Lob
     @Column(columnDefinition = "MEDIUMTEXT")
     private String content;
@@ -37,10 +48,15 @@ public class Post extends BaseEntity {
     @OneToMany(mappedBy = "post", orphanRemoval = true)
     private List<TagMap> tagMapList = new ArrayList<>();
 
+    // 삭제 시각 (null이면 공개 상태, 값이 있으면 모든 조회에서 제외되고 PostReaper가 실제 삭제)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     // 게시글 생성 메서드
     public static Post of(String title, String content, Blog blog) {
         Post post = new Post();
         post.title = title;
+        post.titleChoseong = HangulUtils.choseong(title);
         post.content = content;
         post.blog = blog;
         post.viewCount = 0;
@@ -51,9 +67,14 @@ public class Post extends BaseEntity {
     // 게시글 수정 메서드
     public void update(String title, String content) {
         this.title = title;
+        this.titleChoseong = HangulUtils.choseong(title);
         this.content = content;
     }
 
+    public void markDeleted() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
     public void like() {
         this.likeCount = (this.likeCount == null ? 0 : this.likeCount) + 1;
     }
@@ -0,0 +1,57 @@
+package com.likelion.vlog.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 토큰 인증 모드의 리프레시 토큰
+ * - 원문은 클라이언트만 갖고, 서버에는 SHA-256 해시만 저장
+ * - 재발급 시 기존 행을 지우고 같은 familyId로 새로 발급 (rotation)
+ * - familyId는 액세스 토큰에도 담기므로 로그아웃 시 그 로그인의 리프레시 토큰을 찾아 지울 수 있음
+ */
+@Entity
+@Getter
+@Table(
+        name = "refresh_tokens",
+        indexes = {
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "refresh_token_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "family_id", nullable = false)
+    private Long familyId;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public static RefreshToken of(User user, Long familyId, String tokenHash, Instant expiresAt) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.user = user;
+        refreshToken.familyId = familyId;
+        refreshToken.tokenHash = tokenHash;
+        refreshToken.expiresAt = expiresAt;
+        return refreshToken;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,33 @@
+package com.likelion.vlog.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 만료 전에 폐기된 액세스 토큰 (로그아웃)
+ * - 액세스 토큰의 만료 시각까지만 보관하면 되므로 행 수가 작게 유지됨
+ */
+@Entity
+@Getter
+@Table(name = "revoked_tokens")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken {
+
+    @Id
+    @Column(name = "token_id")
+    private Long tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public static RevokedToken of(long tokenId, Instant expiresAt) {
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.tokenId = tokenId;
+        revokedToken.expiresAt = expiresAt;
+        return revokedToken;
+    }
+}
@@ -4,12 +4,22 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 2차 캐시 대상 (tags 영역, 제목 → ID는 tags-natural-id 영역)
+ * - 생성 후 수정되지 않으므로 READ_ONLY (TagJdbcRepository의 JDBC 일괄 삽입은 새 행이라 캐시와 어긋나지 않음)
+ */
 @Entity
 @Getter
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "tags")
+@NaturalIdCache(region = "tags-natural-id")
 @Table(name = "tags")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Tag extends BaseEntity {
@@ -18,6 +28,7 @@ public class Tag extends BaseEntity {
     @Column(name = "tag_id")
     private Long id;
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String title;
 
@@ -2,17 +2,35 @@ package com.likelion.vlog.entity;
 
 import com.likelion.vlog.dto.auth.SignupRequest;
 import com.likelion.vlog.dto.users.UserUpdateRequest;
+import com.likelion.vlog.util.HangulUtils;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CurrentTimestamp;
+import org.hibernate.annotations.NaturalId;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
 
+/**
+ * 2차 캐시 대상 (users 영역, ID 조회만)
+ * - 캐시는 인스턴스 로컬이므로 인증(이메일 조회)은 캐시를 거치지 않음 (UserRepository.findByEmailAndDeletedAtIsNull)
+ * - upDateInfo/changePassword/markDeleted 같은 엔티티 변경은 커밋 시 캐시 항목도 갱신 (READ_WRITE)
+ * - 팔로우/언팔로우의 카운터 증감도 엔티티 변경으로 처리해 해당 사용자 항목만 갱신
+ * - 벌크 UPDATE(탈퇴 정리, 카운터 보정 배치)는 Hibernate가 users 영역 전체를 비우므로 배치 작업에만 사용
+ */
 @Entity
 @Getter
-@Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@Table(name = "users",
+        indexes = {
+                @Index(name = "idx_users_deleted_at", columnList = "deleted_at"),
+                @Index(name = "idx_users_nickname_choseong", columnList = "nickname_choseong")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
 
@@ -24,6 +42,7 @@ public class User extends BaseEntity {
     private Blog blog;
 
 
+    @NaturalId
     @Column(unique = true, nullable = false)
     private String email;
     @Column(nullable = false)
@@ -31,6 +50,23 @@ public class User extends BaseEntity {
     @Column(unique = true, nullable = false)
     private String nickname;
 
+    // 닉네임의 초성 (초성 검색용 그림자 컬럼)
+    @Column(name = "nickname_choseong")
+    private String nicknameChoseong;
+
+    // 팔로워/팔로잉 수 (follows 집계 대신 비정규화, 행 잠금 후 증감 또는 배치 UPDATE로만 변경)
+    @ColumnDefault("0")
+    @Column(name = "follower_count", nullable = false)
+    private Integer followerCount;
+
+    @ColumnDefault("0")
+    @Column(name = "following_count", nullable = false)
+    private Integer followingCount;
+
+    // 탈퇴 시각 (null이면 활성 계정, 값이 있으면 AccountPurgeJob이 연관 데이터를 지운 뒤 행 삭제)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
 
     @PrePersist
     private void prePersist() {
@@ -42,6 +78,7 @@ public class User extends BaseEntity {
 
         if (requestDto.getNickname() != null) {
             this.nickname = requestDto.getNickname();
+            this.nicknameChoseong = HangulUtils.choseong(this.nickname);
         }
 
         if (requestDto.getPassword() != null) {
@@ -50,11 +87,36 @@ public class User extends BaseEntity {
     }
 
 
+    // 이미 인코딩된 비밀번호로 교체 (로그인 시 해시 비용 계수 상향)
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
+
+    // 팔로워/팔로잉 수 증감 (호출 전 UserRepository.lockForUpdate로 행을 잠그고 최신 값을 읽어야 함)
+    public void changeFollowerCount(int delta) {
+        this.followerCount = Math.max(0, this.followerCount + delta);
+    }
+
+    public void changeFollowingCount(int delta) {
+        this.followingCount = Math.max(0, this.followingCount + delta);
+    }
+
+
+    // 회원 탈퇴: 즉시 조회/로그인 대상에서 빠지고 실제 삭제는 백그라운드 정리 작업이 수행
+    public void markDeleted() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+
     public static User of(SignupRequest signupRequest, PasswordEncoder passwordEncoder){
         User user = new User();
         user.email = signupRequest.getEmail();
         user.password = passwordEncoder.encode(signupRequest.getPassword());
         user.nickname = signupRequest.getNickname();
+        user.nicknameChoseong = HangulUtils.choseong(user.nickname);
+        user.followerCount = 0;
+        user.followingCount = 0;
         return user;
     }
 
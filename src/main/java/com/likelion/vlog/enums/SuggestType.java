@@ -0,0 +1,21 @@
+package com.likelion.vlog.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+public enum SuggestType {
+    TAG, USER, BLOG;
+
+    @JsonCreator
+    public static SuggestType from(String value) {
+        if (value == null) return null;
+        return SuggestType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    @JsonValue
+    public String toValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
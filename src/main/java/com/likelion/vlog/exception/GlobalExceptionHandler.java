@@ -1,11 +1,14 @@
 package com.likelion.vlog.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -29,6 +32,16 @@ public class GlobalExceptionHandler {
                 .body(errorResponse(HttpStatus.NOT_FOUND, e.getMessage()));
     }
 
+    /**
+     * 404 Not Found - 매핑되지 않은 경로 (모드별로만 등록되는 API 포함)
+     */
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleNoResourceFoundException(NoResourceFoundException e) {
+        log.warn("NoResourceFoundException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(errorResponse(HttpStatus.NOT_FOUND, "요청한 API를 찾을 수 없습니다."));
+    }
+
     /**
      * 403 Forbidden - 권한 없음
      */
@@ -80,6 +93,39 @@ public class GlobalExceptionHandler {
                 .body(errorResponse(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 일치하지 않습니다."));
     }
 
+    /**
+     * 429 Too Many Requests - 처리 용량 초과 (잠시 후 재시도)
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Map<String, Object>> handleTooManyRequestsException(TooManyRequestsException e) {
+        log.warn("TooManyRequestsException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse(HttpStatus.TOO_MANY_REQUESTS, e.getMessage()));
+    }
+
+    /**
+     * 503 Service Unavailable - 조회 마감 시간 초과 (잠시 후 재시도)
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceUnavailableException(ServiceUnavailableException e) {
+        log.warn("ServiceUnavailableException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+
+    /**
+     * 503 Service Unavailable - 커넥션을 제때 받지 못해 트랜잭션을 시작하지 못함
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<Map<String, Object>> handleCannotCreateTransactionException(CannotCreateTransactionException e) {
+        log.warn("CannotCreateTransactionException: {}", e.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요."));
+    }
+
     /**
      * 400 Bad Request - 커스텀 잘못된 요청
      */
@@ -35,6 +35,10 @@ public class NotFoundException extends RuntimeException {
         return new NotFoundException("좋아요를 찾을 수 없습니다.");
     }
 
+    public static NotFoundException tag(String title) {
+        return new NotFoundException("태그를 찾을 수 없습니다. title=" + title);
+    }
+
     public static NotFoundException comment(Long commentId) {return new NotFoundException("댓글을 찾을 수 없습니다. id=" + commentId);}
 
     public static NotFoundException comment(Long postId, Long commentId) {
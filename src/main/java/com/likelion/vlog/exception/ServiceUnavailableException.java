@@ -0,0 +1,16 @@
+package com.likelion.vlog.exception;
+
+/**
+ * 정해진 시간 안에 응답을 만들지 못했을 때 발생하는 예외 (503)
+ * - 병렬 조회 중 하나라도 마감 시간을 넘긴 경우
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public static ServiceUnavailableException queryTimeout() {
+        return new ServiceUnavailableException("조회가 지연되고 있습니다. 잠시 후 다시 시도하세요.");
+    }
+}
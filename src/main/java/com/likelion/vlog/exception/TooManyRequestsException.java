@@ -0,0 +1,16 @@
+package com.likelion.vlog.exception;
+
+/**
+ * 서버가 처리할 수 있는 양을 넘는 요청이 몰릴 때 발생하는 예외 (429)
+ * - 비밀번호 해시 스레드 풀 포화
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+
+    public static TooManyRequestsException passwordHashing() {
+        return new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.");
+    }
+}
@@ -15,6 +15,10 @@ public class UnauthorizedException extends RuntimeException {
         return new UnauthorizedException("로그인 후 이용하세요.");
     }
 
+    public static UnauthorizedException invalidToken() {
+        return new UnauthorizedException("유효하지 않거나 만료된 토큰입니다.");
+    }
+
     public static UnauthorizedException loginRequiredForFeature(String featureName) {
         return new UnauthorizedException("로그인 후 " + featureName + "을(를) 이용하세요.");
     }
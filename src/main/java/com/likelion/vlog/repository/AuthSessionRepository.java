@@ -0,0 +1,36 @@
+package com.likelion.vlog.repository;
+
+import com.likelion.vlog.entity.AuthSession;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface AuthSessionRepository extends JpaRepository<AuthSession, String> {
+
+    // 만료 시각만 연장 (payload는 다시 쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE AuthSession s SET s.expiresAt = :expiresAt WHERE s.sessionKey = :sessionKey")
+    int touch(@Param("sessionKey") String sessionKey, @Param("expiresAt") Instant expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AuthSession s WHERE s.sessionKey = :sessionKey")
+    int deleteBySessionKey(@Param("sessionKey") String sessionKey);
+
+    // 만료 세션 키 (배치 삭제용)
+    @Query("SELECT s.sessionKey FROM AuthSession s WHERE s.expiresAt <= :now")
+    List<String> findExpiredKeys(@Param("now") Instant now, Pageable pageable);
+
+    // User의 모든 세션 삭제 (비밀번호 변경, 회원 탈퇴)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AuthSession s WHERE s.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+}
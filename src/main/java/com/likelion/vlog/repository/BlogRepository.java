@@ -2,11 +2,33 @@ package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.Blog;
 import com.likelion.vlog.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface BlogRepository extends JpaRepository<Blog, Long> {
 
     Optional<Blog> findByUser(User user);
-}
\ No newline at end of file
+
+    // 내가 팔로우하는 사용자들의 블로그 ID
+    @Query("SELECT b.id FROM Blog b WHERE b.user.id IN (SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId)")
+    List<Long> findFollowingBlogIds(@Param("userId") Long userId);
+
+    // 자동완성 색인 적재: 탈퇴하지 않은 사용자의 [userId, 닉네임, 팔로워 수, blogId, 블로그 제목] (userId 키셋)
+    @Query("SELECT u.id, u.nickname, u.followerCount, b.id, b.title FROM Blog b JOIN b.user u " +
+            "WHERE u.deletedAt IS NULL AND u.id > :lastUserId ORDER BY u.id ASC")
+    List<Object[]> findSuggestRowsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
+
+    // 초성 컬럼 채우기: 아직 비어 있는 블로그의 [blogId, 제목]
+    @Query("SELECT b.id, b.title FROM Blog b WHERE b.titleChoseong IS NULL ORDER BY b.id ASC")
+    List<Object[]> findIdAndTitleWithoutChoseong(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Blog b SET b.titleChoseong = :choseong WHERE b.id = :id")
+    void updateTitleChoseong(@Param("id") Long id, @Param("choseong") String choseong);
+}
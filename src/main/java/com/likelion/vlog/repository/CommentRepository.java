@@ -2,7 +2,9 @@ package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.Comment;
 import com.likelion.vlog.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,13 +16,24 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     int countByPost(Post post);
 
-    void deleteAllByPostId(Long postId);
+    // 탈퇴 정리: User가 작성한 댓글 ID, comment_id 순
+    @Query("SELECT c.id FROM Comment c WHERE c.user.id = :userId ORDER BY c.id ASC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    // User가 작성한 모든 댓글 삭제
-    void deleteAllByUserId(Long userId);
+    // 지정한 댓글들에 달린 답글 삭제 (부모보다 먼저 지워야 FK 위반이 없음)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.parent.id IN :parentIds")
+    int deleteAllByParentIdIn(@Param("parentIds") List<Long> parentIds);
 
-    // User의 Blog에 속한 Post들의 모든 댓글 삭제
-    void deleteAllByPostBlogUserId(Long userId);
+    // 지정한 게시글들의 답글 삭제
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id IN :postIds AND c.parent IS NOT NULL")
+    int deleteRepliesByPostIdIn(@Param("postIds") List<Long> postIds);
+
+    // 지정한 게시글들의 나머지 댓글 삭제 (답글을 먼저 지운 뒤 호출)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id IN :postIds")
+    int deleteAllByPostIdIn(@Param("postIds") List<Long> postIds);
 
     // N+1 해결: 여러 Post의 댓글 수를 한번에 조회
     @Query("SELECT c.post.id, COUNT(c) FROM Comment c WHERE c.post IN :posts GROUP BY c.post.id")
@@ -31,7 +44,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             "LEFT JOIN FETCH c.user " +
             "LEFT JOIN FETCH c.children ch " +
             "LEFT JOIN FETCH ch.user " +
-            "WHERE c.post = :post AND c.parent IS NULL " +
+            "WHERE c.post = :post AND c.post.deletedAt IS NULL AND c.parent IS NULL " +
             "ORDER BY c.createdAt ASC")
     List<Comment> findAllByPostWithChildren(@Param("post") Post post);
 }
\ No newline at end of file
@@ -5,7 +5,10 @@ import com.likelion.vlog.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
@@ -17,9 +20,39 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
     Optional<Follow> findByFollowerAndFollowing(User follower, User following);
                                 
-    // User가 팔로우한 모든 관계 삭제
-    void deleteAllByFollowerId(Long followerId);
+    // 탈퇴 정리: 탈퇴자가 팔로우한 관계 (follow_id, following_id), follow_id 순
+    @Query("SELECT f.id, f.following.id FROM Follow f WHERE f.follower.id = :userId ORDER BY f.id ASC")
+    List<Object[]> findFollowingEdgesOf(@Param("userId") Long userId, Pageable pageable);
 
-    // User를 팔로우하는 모든 관계 삭제
-    void deleteAllByFollowingId(Long followingId);
+    // 탈퇴 정리: 탈퇴자를 팔로우하는 관계 (follow_id, follower_id), follow_id 순
+    @Query("SELECT f.id, f.follower.id FROM Follow f WHERE f.following.id = :userId ORDER BY f.id ASC")
+    List<Object[]> findFollowerEdgesOf(@Param("userId") Long userId, Pageable pageable);
+
+    // 내가 팔로우하는 사용자 ID
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId")
+    List<Long> findFollowingIds(@Param("userId") Long userId);
+
+    // 팔로우 추천: 표본으로 뽑은 사용자들이 팔로우하는 사람 중 내가 아직 팔로우하지 않은 사람을 겹치는 수 순으로
+    // 팔로잉이 많은 이웃은 최근 팔로우 maxFanout개만 센다 (ROW_NUMBER로 이웃별 상한)
+    @Query(value = "SELECT ranked.following_id, COUNT(*) AS overlap FROM (" +
+            "SELECT f.following_id, ROW_NUMBER() OVER (PARTITION BY f.follower_id ORDER BY f.follow_id DESC) AS rn " +
+            "FROM follows f WHERE f.follower_id IN (:followerIds)) ranked " +
+            "WHERE ranked.rn <= :maxFanout AND ranked.following_id <> :userId " +
+            "AND ranked.following_id NOT IN (SELECT mine.following_id FROM follows mine WHERE mine.follower_id = :userId) " +
+            "GROUP BY ranked.following_id ORDER BY overlap DESC",
+            nativeQuery = true)
+    List<Object[]> countSecondDegree(@Param("userId") Long userId, @Param("followerIds") List<Long> followerIds,
+                                     @Param("maxFanout") int maxFanout, Pageable pageable);
+
+    // 피드 fan-out 대상: 나를 팔로우하는 사용자 ID
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.following.id = :userId")
+    List<Long> findFollowerIds(@Param("userId") Long userId);
+
+    // 피드 fan-out-on-read 대상: 내가 팔로우하는 사용자 중 팔로워가 많은 작성자 ID
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId AND f.following.followerCount > :threshold")
+    List<Long> findCelebrityFollowingIds(@Param("userId") Long userId, @Param("threshold") int threshold);
+
+    // 팔로우 그래프 적재용: follow_id 키셋 페이징으로 (follow_id, follower_id, following_id) 조회
+    @Query("SELECT f.id, f.follower.id, f.following.id FROM Follow f WHERE f.id > :lastId ORDER BY f.id ASC")
+    List<Object[]> findEdgesAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
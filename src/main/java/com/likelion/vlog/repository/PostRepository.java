@@ -2,24 +2,34 @@ package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.Post;
 import com.likelion.vlog.repository.querydsl.custom.PostRepositoryCustom;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
-    Page<Post> findAllByBlogId(Long blogId, Pageable pageable);
+    // 삭제(deleted_at)되지 않은 게시글만 조회
+    Optional<Post> findByIdAndDeletedAtIsNull(Long id);
 
-    @Query("SELECT DISTINCT p FROM Post p JOIN p.tagMapList tm JOIN tm.tag t WHERE t.title = :tagName")
+    Page<Post> findAllByDeletedAtIsNull(Pageable pageable);
+
+    Page<Post> findAllByBlogIdAndDeletedAtIsNull(Long blogId, Pageable pageable);
+
+    @Query("SELECT DISTINCT p FROM Post p JOIN p.tagMapList tm JOIN tm.tag t WHERE t.title = :tagName AND p.deletedAt IS NULL")
     Page<Post> findAllByTagName(@Param("tagName") String tagName, Pageable pageable);
 
-    @Query("SELECT DISTINCT p FROM Post p JOIN p.tagMapList tm JOIN tm.tag t WHERE t.title = :tagName AND p.blog.id = :blogId")
+    @Query("SELECT DISTINCT p FROM Post p JOIN p.tagMapList tm JOIN tm.tag t " +
+            "WHERE t.title = :tagName AND p.blog.id = :blogId AND p.deletedAt IS NULL")
     Page<Post> findAllByTagNameAndBlogId(@Param("tagName") String tagName, @Param("blogId") Long blogId, Pageable pageable);
 
     // 좋아요 수 원자적 증가
@@ -38,6 +48,65 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     @Query("UPDATE Post p SET p.viewCount = COALESCE(p.viewCount, 0) + 1 WHERE p.id = :id")
     void incrementViewCount(@Param("id") Long id);
 
-    // User의 Blog에 속한 모든 Post 삭제
-    void deleteAllByBlogUserId(Long userId);
-}
\ No newline at end of file
+    // 피드 타임라인 재구성: 내가 팔로우하는 (일반) 작성자의 게시글 ID, 최신순
+    @Query("SELECT p.id FROM Post p " +
+            "WHERE p.blog.user.id IN (SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId) " +
+            "AND p.blog.user.followerCount <= :threshold AND p.id < :cursor AND p.deletedAt IS NULL " +
+            "ORDER BY p.id DESC")
+    List<Long> findFeedPostIds(@Param("userId") Long userId, @Param("threshold") int threshold,
+                               @Param("cursor") Long cursor, Pageable pageable);
+
+    // 피드 fan-out-on-read: 지정한 작성자들의 게시글 ID, 최신순
+    @Query("SELECT p.id FROM Post p WHERE p.blog.user.id IN :authorIds AND p.id < :cursor AND p.deletedAt IS NULL " +
+            "ORDER BY p.id DESC")
+    List<Long> findIdsByAuthorIds(@Param("authorIds") List<Long> authorIds, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 피드 fan-out-on-read: 지정한 블로그들의 게시글 ID, 최신순 (메모리 스트림으로 부족할 때)
+    @Query("SELECT p.id FROM Post p WHERE p.blog.id IN :blogIds AND p.id < :cursor AND p.deletedAt IS NULL " +
+            "ORDER BY p.id DESC")
+    List<Long> findIdsByBlogIds(@Param("blogIds") List<Long> blogIds, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 블로그 스트림 적재용: post_id 키셋 페이징으로 (post_id, blog_id, user_id) 조회
+    @Query("SELECT p.id, p.blog.id, p.blog.user.id FROM Post p WHERE p.id > :lastId AND p.deletedAt IS NULL " +
+            "ORDER BY p.id ASC")
+    List<Object[]> findStreamRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 상세 조회: 작성자까지 한 번에
+    // 조회수 증가 때문에 쓰기 트랜잭션 안에서 실행되므로, 읽기 전용 힌트로 게시글/블로그/작성자의 변경 감지 스냅샷을 남기지 않음
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT p FROM Post p JOIN FETCH p.blog b JOIN FETCH b.user WHERE p.id = :id AND p.deletedAt IS NULL")
+    Optional<Post> findWithAuthorById(@Param("id") Long id);
+
+    // 피드 응답 조립: 작성자까지 한 번에 조회 (타임라인에 남아 있는 삭제된 게시글은 여기서 걸러짐)
+    @Query("SELECT p FROM Post p JOIN FETCH p.blog b JOIN FETCH b.user WHERE p.id IN :ids AND p.deletedAt IS NULL")
+    List<Post> findAllWithAuthorByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Post p")
+    Long findMaxId();
+
+    // 탈퇴 정리: 블로그의 게시글 ID (삭제 표시된 게시글 포함), post_id 순
+    @Query("SELECT p.id FROM Post p WHERE p.blog.id = :blogId ORDER BY p.id ASC")
+    List<Long> findIdsByBlogId(@Param("blogId") Long blogId, Pageable pageable);
+
+    // 회원 탈퇴: 블로그의 게시글을 한 번에 삭제 표시 (실제 삭제는 탈퇴 정리 배치)
+    @Modifying
+    @Query("UPDATE Post p SET p.deletedAt = :now WHERE p.blog.id = :blogId AND p.deletedAt IS NULL")
+    int markDeletedByBlogId(@Param("blogId") Long blogId, @Param("now") LocalDateTime now);
+
+    // 삭제 정리: before 이전에 삭제 표시된 게시글 ID, post_id 순
+    @Query("SELECT p.id FROM Post p WHERE p.deletedAt < :before ORDER BY p.id ASC")
+    List<Long> findIdsDeletedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // 탈퇴 정리: 탈퇴자가 좋아요한 게시글들의 좋아요 수 감소 (사용자당 게시글별 좋아요는 하나)
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id IN :ids AND p.likeCount > 0")
+    int decrementLikeCounts(@Param("ids") List<Long> ids);
+
+    // 초성 컬럼 채우기: 아직 비어 있는 게시글의 [postId, 제목]
+    @Query("SELECT p.id, p.title FROM Post p WHERE p.titleChoseong IS NULL ORDER BY p.id ASC")
+    List<Object[]> findIdAndTitleWithoutChoseong(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.titleChoseong = :choseong WHERE p.id = :id")
+    void updateTitleChoseong(@Param("id") Long id, @Param("choseong") String choseong);
+}
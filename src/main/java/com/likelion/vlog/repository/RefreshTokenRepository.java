@@ -0,0 +1,30 @@
+package com.likelion.vlog.repository;
+
+import com.likelion.vlog.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // User의 모든 리프레시 토큰 삭제 (비밀번호 변경, 회원 탈퇴)
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    // 한 로그인에서 이어진 리프레시 토큰 삭제 (로그아웃)
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.familyId = :familyId")
+    int deleteAllByFamilyId(@Param("familyId") Long familyId);
+
+    // 만료된 토큰 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,89 @@
+package com.likelion.vlog.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 태그/태그 매핑 다건 쓰기용 JDBC 쿼리
+ * - IDENTITY 전략이라 JPA로는 INSERT가 묶이지 않으므로 여러 행을 한 문장으로 전송
+ * - 호출한 JPA 트랜잭션의 커넥션을 그대로 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class TagJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 없는 태그만 생성
+     * - 같은 태그를 동시에 만들어도 unique(title)에 걸린 쪽은 아무것도 바꾸지 않고 통과
+     */
+    public void insertIfAbsent(Collection<String> titles) {
+        if (titles.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> args = new ArrayList<>(titles.size() * 3);
+        for (String title : titles) {
+            args.add(title);
+            args.add(now);
+            args.add(now);
+        }
+        jdbcTemplate.update("INSERT INTO tags (title, created_at, updated_at) VALUES "
+                        + placeholders(titles.size(), 3)
+                        + " ON DUPLICATE KEY UPDATE title = title",
+                args.toArray());
+    }
+
+    /**
+     * 제목 → ID 조회
+     * - 공유 잠금 읽기라 다른 트랜잭션이 방금 커밋한 태그도 보임 (REPEATABLE READ 스냅샷 우회)
+     */
+    public Map<String, Long> findIdsByTitles(Collection<String> titles) {
+        if (titles.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT tag_id, title FROM tags WHERE title IN (" + placeholders(titles.size())
+                        + ") LOCK IN SHARE MODE",
+                rs -> {
+                    ids.put(rs.getString("title"), rs.getLong("tag_id"));
+                },
+                titles.toArray());
+        return ids;
+    }
+
+    /**
+     * 게시글의 태그 매핑을 한 문장으로 생성
+     */
+    public void insertTagMaps(Long postId, Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> args = new ArrayList<>(tagIds.size() * 4);
+        for (Long tagId : tagIds) {
+            args.add(postId);
+            args.add(tagId);
+            args.add(now);
+            args.add(now);
+        }
+        jdbcTemplate.update("INSERT INTO tag_maps (post_id, tag_id, created_at, updated_at) VALUES "
+                        + placeholders(tagIds.size(), 4),
+                args.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static String placeholders(int rows, int columns) {
+        String row = "(" + placeholders(columns) + ")";
+        return String.join(", ", Collections.nCopies(rows, row));
+    }
+}
@@ -2,24 +2,55 @@ package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.Post;
 import com.likelion.vlog.entity.TagMap;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TagMapRepository extends JpaRepository<TagMap, Long> {
 
     List<TagMap> findAllByPost(Post post);
 
-    @Modifying
-    @Query("DELETE FROM TagMap tm WHERE tm.post = :post")
-    void deleteAllByPost(@Param("post") Post post);
+    // 게시글에 현재 매핑된 (tag_id, title)
+    @Query("SELECT t.id, t.title FROM TagMap tm JOIN tm.tag t WHERE tm.post.id = :postId")
+    List<Object[]> findTagIdAndTitleByPostId(@Param("postId") Long postId);
+
+    // 게시글의 태그 제목 (붙인 순서)
+    @Query("SELECT t.title FROM TagMap tm JOIN tm.tag t WHERE tm.post.id = :postId ORDER BY tm.id ASC")
+    List<String> findTitlesByPostId(@Param("postId") Long postId);
+
+    // 태그별 공개 게시글 수 (TagStatistics 적재/보정용)
+    @Query("SELECT t.id, t.title, COUNT(tm) FROM TagMap tm JOIN tm.tag t " +
+            "WHERE tm.post.deletedAt IS NULL GROUP BY t.id, t.title")
+    List<Object[]> countLivePostsByTag();
+
+    // 블로그의 공개 게시글별 (post_id, tag_id, title) (회원 탈퇴 시 태그 인덱스 차감용)
+    @Query("SELECT tm.post.id, t.id, t.title FROM TagMap tm JOIN tm.tag t " +
+            "WHERE tm.post.blog.id = :blogId AND tm.post.deletedAt IS NULL")
+    List<Object[]> findLivePostTagsByBlogId(@Param("blogId") Long blogId);
 
-    // 게시글 ID로 태그 매핑 삭제
-    void deleteAllByPostId(Long postId);
+    // 동시 출현 행렬 적재용: post_id 구간의 공개 게시글 (post_id, tag_id), post_id 순
+    @Query("SELECT tm.post.id, tm.tag.id FROM TagMap tm " +
+            "WHERE tm.post.id BETWEEN :fromId AND :toId AND tm.post.deletedAt IS NULL ORDER BY tm.post.id ASC")
+    List<Object[]> findLivePostTagIdsBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
 
-    // User의 Blog에 속한 Post들의 모든 태그 매핑 삭제
-    void deleteAllByPostBlogUserId(Long userId);
+    // 관련 태그 폴백 (동시 출현 행렬 적재 전): 같은 게시글에 함께 붙은 횟수 순
+    @Query("SELECT b.tag.id, COUNT(b) FROM TagMap a JOIN TagMap b ON b.post = a.post " +
+            "WHERE a.tag.id = :tagId AND b.tag.id <> :tagId AND a.post.deletedAt IS NULL " +
+            "GROUP BY b.tag.id ORDER BY COUNT(b) DESC")
+    List<Object[]> countRelated(@Param("tagId") Long tagId, Pageable pageable);
+
+    // 게시글에서 지정한 태그 매핑만 삭제
+    @Modifying
+    @Query("DELETE FROM TagMap tm WHERE tm.post.id = :postId AND tm.tag.id IN :tagIds")
+    int deleteByPostIdAndTagIdIn(@Param("postId") Long postId, @Param("tagIds") Collection<Long> tagIds);
+
+    // 지정한 게시글들의 태그 매핑 삭제
+    @Modifying
+    @Query("DELETE FROM TagMap tm WHERE tm.post.id IN :postIds")
+    int deleteAllByPostIdIn(@Param("postIds") List<Long> postIds);
 }
\ No newline at end of file
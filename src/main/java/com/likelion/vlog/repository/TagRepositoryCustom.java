@@ -0,0 +1,13 @@
+package com.likelion.vlog.repository;
+
+import com.likelion.vlog.entity.Tag;
+
+import java.util.Optional;
+
+/**
+ * 태그 제목(자연 키) 조회 - 2차 캐시(tags-natural-id → tags)를 거침
+ */
+public interface TagRepositoryCustom {
+
+    Optional<Tag> findByTitle(String title);
+}
@@ -0,0 +1,24 @@
+package com.likelion.vlog.repository;
+
+import com.likelion.vlog.entity.Tag;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class TagRepositoryImpl implements TagRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<Tag> findByTitle(String title) {
+        if (title == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Tag.class)
+                .loadOptional(title);
+    }
+}
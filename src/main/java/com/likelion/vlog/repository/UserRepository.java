@@ -1,12 +1,68 @@
 package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
-    Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 탈퇴하지 않은 사용자만 조회
+    Optional<User> findByIdAndDeletedAtIsNull(Long id);
+
+    // 로그인/비밀번호 재해시용: 인스턴스 로컬 2차 캐시를 거치지 않고 DB에서 읽음
+    // (다른 인스턴스에서 바꾼 비밀번호나 탈퇴가 캐시 만료 전에도 바로 반영되도록)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    Optional<User> findByEmailAndDeletedAtIsNull(String email);
+
+    // 탈퇴 처리된 사용자 ID (먼저 탈퇴한 순)
+    @Query("SELECT u.id FROM User u WHERE u.deletedAt IS NOT NULL ORDER BY u.deletedAt ASC")
+    List<Long> findDeletedIds(Pageable pageable);
+
+    // 탈퇴 처리되었지만 아직 정리되지 않은 사용자 ID 전체 (DeletedAccounts 적재용)
+    @Query("SELECT u.id FROM User u WHERE u.deletedAt IS NOT NULL")
+    List<Long> findAllDeletedIds();
+
+    // 탈퇴 정리: 탈퇴자가 팔로우하던 사용자들의 팔로워 수 감소 (배치 단위)
+    @Modifying
+    @Query("UPDATE User u SET u.followerCount = u.followerCount - 1 WHERE u.id IN :ids AND u.followerCount > 0")
+    int decrementFollowerCounts(@Param("ids") List<Long> ids);
+
+    // 탈퇴 정리: 탈퇴자를 팔로우하던 사용자들의 팔로잉 수 감소 (배치 단위)
+    @Modifying
+    @Query("UPDATE User u SET u.followingCount = u.followingCount - 1 WHERE u.id IN :ids AND u.followingCount > 0")
+    int decrementFollowingCounts(@Param("ids") List<Long> ids);
+
+    // 카운터 보정: id 구간 단위로 follows 기준 재계산
+    @Modifying
+    @Query("UPDATE User u SET " +
+            "u.followerCount = (SELECT COUNT(f) FROM Follow f WHERE f.following.id = u.id), " +
+            "u.followingCount = (SELECT COUNT(f) FROM Follow f WHERE f.follower.id = u.id) " +
+            "WHERE u.id BETWEEN :fromId AND :toId")
+    int reconcileFollowCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 팔로워 수만 조회 (피드 fan-out 대상 판단용)
+    @Query("SELECT u.followerCount FROM User u WHERE u.id = :id")
+    int findFollowerCountById(@Param("id") Long id);
+
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    Long findMaxId();
+
+    // 초성 컬럼 채우기: 아직 비어 있는 사용자의 [userId, 닉네임]
+    @Query("SELECT u.id, u.nickname FROM User u WHERE u.nicknameChoseong IS NULL ORDER BY u.id ASC")
+    List<Object[]> findIdAndNicknameWithoutChoseong(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE User u SET u.nicknameChoseong = :choseong WHERE u.id = :id")
+    void updateNicknameChoseong(@Param("id") Long id, @Param("choseong") String choseong);
 }
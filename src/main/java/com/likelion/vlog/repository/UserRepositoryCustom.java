@@ -0,0 +1,12 @@
+package com.likelion.vlog.repository;
+
+import com.likelion.vlog.entity.User;
+
+/**
+ * 카운터 갱신 전 행 잠금 (캐시가 아닌 DB 최신 값으로 다시 읽음)
+ */
+public interface UserRepositoryCustom {
+
+    // 이미 조회한 사용자 행을 SELECT ... FOR UPDATE로 잠그고 최신 상태로 갱신
+    void lockForUpdate(User user);
+}
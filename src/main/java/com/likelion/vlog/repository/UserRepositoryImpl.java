@@ -0,0 +1,17 @@
+package com.likelion.vlog.repository;
+
+import com.likelion.vlog.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void lockForUpdate(User user) {
+        entityManager.refresh(user, LockModeType.PESSIMISTIC_WRITE);
+    }
+}
@@ -2,8 +2,14 @@ package com.likelion.vlog.repository.querydsl.custom;
 
 import com.likelion.vlog.dto.posts.PostGetRequest;
 import com.likelion.vlog.entity.Post;
-import org.springframework.data.domain.Page;
+import java.util.List;
 
 public interface PostRepositoryCustom {
-    Page<Post> search(PostGetRequest request);
+    // 검색 결과 한 페이지 (정렬/페이징 적용)
+    List<Post> searchContent(PostGetRequest request);
+
+    // 검색 결과 총 건수
+    long searchCount(PostGetRequest request);
+
+    List<Long> searchIds(PostGetRequest request, int limit);
 }
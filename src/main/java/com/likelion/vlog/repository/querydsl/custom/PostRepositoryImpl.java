@@ -6,18 +6,20 @@ import com.likelion.vlog.entity.QPost;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
+
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
 
+    /**
+     * 목록 조회
+     * - 총 건수(searchCount)와 나눠 두어 서비스가 두 쿼리를 서로 다른 커넥션에서 동시에 실행할 수 있게 함
+     */
     @Override
-    public Page<Post> search(PostGetRequest request) {
+    public List<Post> searchContent(PostGetRequest request) {
         QPost post = QPost.post;
 
         int page = request.getPage();
@@ -34,20 +36,35 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         query.orderBy(order, post.id.desc());
 
         //결과
-        List<Post> content = query
+        return query
                 .offset((long) page * size)
                 .limit(size)
                 .fetch();
+    }
+
+    // 페이징을 위해 총 조회건수
+    @Override
+    public long searchCount(PostGetRequest request) {
+        QPost post = QPost.post;
 
-        // 페이징을 위해 총 조회건수
         Long total = jpaQueryFactory
                 .select(post.id.countDistinct())
                 .from(post)
                 .where(post.search(request))
                 .fetchOne();
+        return total == null ? 0L : total;
+    }
 
-        total = total == null ? 0L : total;
+    // 검색 조건에 맞는 게시글 ID만 (패싯 집계용, 정렬 없음)
+    @Override
+    public List<Long> searchIds(PostGetRequest request, int limit) {
+        QPost post = QPost.post;
 
-        return new PageImpl<>(content, PageRequest.of(page, size), total);
+        return jpaQueryFactory
+                .select(post.id)
+                .from(post)
+                .where(post.search(request))
+                .limit(limit)
+                .fetch();
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.likelion.vlog.enums.SearchFiled;
 
 import com.likelion.vlog.enums.SortField;
 import com.likelion.vlog.enums.TagMode;
+import com.likelion.vlog.util.HangulUtils;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.annotations.QueryDelegate;
 
@@ -48,6 +49,17 @@ public class PostExpression {
         return normalizedField.containsIgnoreCase(normalized);
     }
 
+    // 초성이 섞인 검색어("ㅅㅍㄹ", "스ㅍ")는 쓰기 시점에 저장한 초성 컬럼과 비교 (혼합 검색어는 초성 기준으로 비교)
+    // 초성 컬럼 인덱스를 타도록 앞부분 일치(LIKE 'ㅅㅍ%')만 지원
+    private static BooleanExpression keywordMatches(StringExpression field, StringExpression choseongField, String keyword) {
+        if (keyword == null || keyword.isBlank()) return null;
+        String normalized = HangulUtils.normalize(keyword);
+        if (HangulUtils.containsChoseong(normalized)) {
+            return choseongField.startsWith(HangulUtils.choseong(normalized));
+        }
+        return whitespaceIgnoreCase(field, keyword);
+    }
+
      //tags 목록에 있는 "모든 태그"를 포함하는 게시물만 통과 (더 많아도 OK)
     @QueryDelegate(Post.class)
     public static Predicate hasAllTags(QPost post, List<String> tags) {
@@ -98,6 +110,9 @@ public class PostExpression {
 
         BooleanBuilder builder = new BooleanBuilder();
 
+        //삭제된 게시글 제외
+        builder.and(post.deletedAt.isNull());
+
         //플로그필터
         if (blogId != null && blogId > 0) {
             builder.and(post.blog.id.eq(blogId));
@@ -106,9 +121,9 @@ public class PostExpression {
         //키워드필터
         if (keyword != null && !keyword.isBlank()) {
             switch (search) {
-                case BLOG -> builder.and(whitespaceIgnoreCase(post.blog.title, keyword));
-                case NICKNAME -> builder.and(whitespaceIgnoreCase(post.blog.user.nickname, keyword));
-                case TITLE -> builder.and(whitespaceIgnoreCase(post.title, keyword));
+                case BLOG -> builder.and(keywordMatches(post.blog.title, post.blog.titleChoseong, keyword));
+                case NICKNAME -> builder.and(keywordMatches(post.blog.user.nickname, post.blog.user.nicknameChoseong, keyword));
+                case TITLE -> builder.and(keywordMatches(post.title, post.titleChoseong, keyword));
             }
         }
 
@@ -0,0 +1,74 @@
+package com.likelion.vlog.security;
+
+import com.likelion.vlog.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 로그인 사용자 정보 (SecurityContext의 principal)
+ * - 로그인 시점의 userId, blogId, nickname을 들고 있어 요청마다 이메일로 사용자를 다시 조회하지 않음
+ * - 세션에 직렬화되어 저장되므로 엔티티 대신 값만 보관
+ * - 인증이 끝나면 ProviderManager가 eraseCredentials()로 비밀번호를 지움
+ * - 토큰 인증 모드에서는 토큰에 담긴 값만으로 만들어지므로 email이 없음
+ */
+@Getter
+public class AuthUser implements UserDetails, CredentialsContainer {
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final Long userId;
+    private final Long blogId;
+    private final String email;
+    private final String nickname;
+    private String password;
+
+    private AuthUser(Long userId, Long blogId, String email, String nickname, String password) {
+        this.userId = userId;
+        this.blogId = blogId;
+        this.email = email;
+        this.nickname = nickname;
+        this.password = password;
+    }
+
+    public static AuthUser from(User user) {
+        return new AuthUser(user.getId(), user.getBlog().getId(), user.getEmail(), user.getNickname(), user.getPassword());
+    }
+
+    // 토큰 클레임으로 생성 (DB 조회 없음)
+    public static AuthUser of(Long userId, Long blogId, String nickname) {
+        return new AuthUser(userId, blogId, null, nickname, null);
+    }
+
+    // 저장된 세션에서 복원 (비밀번호 없음)
+    public static AuthUser of(Long userId, Long blogId, String email, String nickname) {
+        return new AuthUser(userId, blogId, email, nickname, null);
+    }
+
+    /**
+     * 닉네임 변경 후 principal 교체용
+     */
+    public AuthUser withNickname(String nickname) {
+        return new AuthUser(userId, blogId, email, nickname, null);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES;
+    }
+
+    @Override
+    public String getUsername() {
+        return email != null ? email : String.valueOf(userId);
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+}
@@ -0,0 +1,101 @@
+package com.likelion.vlog.security;
+
+import com.likelion.vlog.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시 연산을 전용 스레드 풀에서만 수행하는 PasswordEncoder
+ * - bcrypt는 CPU를 오래 점유하므로 로그인이 몰려도 톰캣 스레드의 다른 요청이 밀리지 않도록 동시 해시 수를 제한
+ * - 대기열까지 가득 차거나 대기 시간을 넘기면 즉시 429 (TooManyRequestsException)
+ * - 시간 초과 시 cancel(true): 대기열에 있던 작업은 실행되지 않지만, 이미 실행 중인 bcrypt는 인터럽트를 확인하지 않아
+ *   끝까지 돈 뒤 결과가 버려짐. 그래서 429 이후에도 쓰이는 CPU는 스레드 수 × 해시 1회 이하로 묶임
+ *   (풀 크기가 고정이라 취소되지 않은 작업이 쌓여 해시 동시 실행 수가 늘어나지는 않음)
+ * - 풀/대기열 지표는 executor 이름 password-hash로 Micrometer에 등록
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService monitored;
+    private final long waitTimeoutMillis;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                  long waitTimeoutMillis, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.monitored = ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hash");
+        this.rejected = Counter.builder("vlog.password.hash.rejected")
+                .description("포화로 거절된 비밀번호 해시 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 비용 계수 비교만 하므로 호출 스레드에서 바로 수행
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = monitored.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw TooManyRequestsException.passwordHashing();
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열의 작업만 실제로 취소됨 (실행 중인 bcrypt는 중단되지 않고 결과만 버려짐)
+            future.cancel(true);
+            rejected.increment();
+            log.warn("Password hashing timed out: active={}, queued={}", executor.getActiveCount(), executor.getQueue().size());
+            throw TooManyRequestsException.passwordHashing();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.likelion.vlog.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 탈퇴한 계정의 인증 정보 제거 (세션/토큰 모드 공통)
+ * - 탈퇴 요청을 보낸 세션 말고도 같은 계정의 다른 세션, 만료 전 액세스 토큰이 남아 있으므로 요청마다 확인
+ * - 인증을 지운 뒤 익명으로 통과시켜 보호된 경로는 AuthEntryPoint가 401 처리, 메모리 세션은 무효화
+ * - 빈으로 등록하지 않음 (ProjectSecurityConfig에서 직접 생성)
+ */
+@RequiredArgsConstructor
+public class DeletedAccountFilter extends OncePerRequestFilter {
+
+    private final DeletedAccounts deletedAccounts;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser principal
+                && deletedAccounts.contains(principal.getUserId())) {
+            SecurityContextHolder.clearContext();
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                session.invalidate();
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,43 @@
+package com.likelion.vlog.security;
+
+import com.likelion.vlog.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 탈퇴 처리(deleted_at 기록)되었지만 아직 AccountPurgeJob이 행을 지우지 않은 사용자 ID (인메모리)
+ * - 탈퇴한 계정의 다른 세션/만료 전 액세스 토큰을 요청마다 DB 조회 없이 걸러내는 용도
+ * - 다른 인스턴스의 탈퇴분은 폐기 토큰 목록과 같은 주기로 다시 읽음
+ * - 정리가 끝나 행이 사라진 계정은 쓰기 경로의 사용자 확인(findById + deletedAt)에서 걸러짐
+ */
+@Component
+@RequiredArgsConstructor
+public class DeletedAccounts {
+
+    private final UserRepository userRepository;
+
+    private volatile Set<Long> deleted = ConcurrentHashMap.newKeySet();
+
+    public boolean contains(Long userId) {
+        return deleted.contains(userId);
+    }
+
+    // 이 인스턴스에서 탈퇴한 계정은 다음 재적재를 기다리지 않고 바로 반영 (커밋 이후 호출)
+    public void add(Long userId) {
+        deleted.add(userId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${vlog.auth.revocation-reload-ms:30000}")
+    public void reload() {
+        Set<Long> loaded = ConcurrentHashMap.newKeySet();
+        loaded.addAll(userRepository.findAllDeletedIds());
+        deleted = loaded;
+    }
+}
@@ -0,0 +1,300 @@
+package com.likelion.vlog.security;
+
+import com.likelion.vlog.entity.AuthSession;
+import com.likelion.vlog.repository.AuthSessionRepository;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.DeferredSecurityContext;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * DB(auth_sessions)에 SecurityContext를 저장하는 세션 저장소 (vlog.auth.session-store=jdbc)
+ * - HttpSession을 쓰지 않고 자체 쿠키 + 테이블로 로그인 상태 유지 → 재배포/다중 인스턴스에서도 유지
+ * - 저장 값은 Java 직렬화 대신 AuthUser 필드만 담은 수십 바이트 바이너리
+ * - principal이 바뀔 때만 쓰고, 만료 연장은 남은 시간이 절반 이하일 때만 UPDATE 한 번
+ * - 조회 결과는 nearCacheTtl 동안 로컬에 캐시 (다른 인스턴스의 로그아웃은 최대 그만큼 늦게 반영)
+ * - 만료 세션은 스케줄러가 배치로 삭제
+ */
+@Slf4j
+public class PersistentSecurityContextRepository implements SecurityContextRepository {
+
+    private static final byte VERSION = 1;
+    private static final int PURGE_BATCH_SIZE = 500;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final AuthSessionRepository authSessionRepository;
+    private final String cookieName;
+    private final boolean cookieSecure;
+    private final String cookieSameSite;
+    private final Duration timeout;
+    private final long nearCacheTtlNanos;
+    private final int nearCacheMaxSize;
+
+    private final SecureRandom random = new SecureRandom();
+    // 세션 키(해시) -> 조회 결과
+    private final Map<String, CachedSession> nearCache = new ConcurrentHashMap<>();
+
+    public PersistentSecurityContextRepository(AuthSessionRepository authSessionRepository, String cookieName,
+                                               boolean cookieSecure, String cookieSameSite, Duration timeout,
+                                               Duration nearCacheTtl, int nearCacheMaxSize) {
+        this.authSessionRepository = authSessionRepository;
+        this.cookieName = cookieName;
+        this.cookieSecure = cookieSecure;
+        this.cookieSameSite = cookieSameSite;
+        this.timeout = timeout;
+        this.nearCacheTtlNanos = nearCacheTtl.toNanos();
+        this.nearCacheMaxSize = nearCacheMaxSize;
+    }
+
+    @Override
+    public DeferredSecurityContext loadDeferredContext(HttpServletRequest request) {
+        return new LazyContext(() -> load(request));
+    }
+
+    @Override
+    @Deprecated
+    public SecurityContext loadContext(HttpRequestResponseHolder requestResponseHolder) {
+        SecurityContext context = load(requestResponseHolder.getRequest());
+        return context != null ? context : SecurityContextHolder.createEmptyContext();
+    }
+
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        return load(request) != null;
+    }
+
+    /**
+     * 로그인/principal 변경 시 저장, 빈 컨텍스트면 세션 삭제 (로그아웃)
+     */
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        String currentKey = readKey(request);
+        Authentication authentication = context.getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthUser principal)) {
+            if (currentKey != null) {
+                remove(currentKey);
+                writeCookie(response, "", Duration.ZERO);
+            }
+            return;
+        }
+
+        byte[] payload = encode(principal);
+        if (currentKey != null) {
+            CachedSession cached = nearCache.get(currentKey);
+            if (cached != null && Arrays.equals(cached.payload(), payload)) {
+                return;
+            }
+            remove(currentKey);
+        }
+
+        // 로그인마다 새 키 발급 (세션 고정 방지)
+        byte[] raw = new byte[32];
+        random.nextBytes(raw);
+        String token = ENCODER.encodeToString(raw);
+        String key = hash(token);
+        Instant expiresAt = Instant.now().plus(timeout);
+
+        authSessionRepository.save(AuthSession.of(key, principal.getUserId(), payload, expiresAt));
+        cache(key, new CachedSession(principal, payload, expiresAt, System.nanoTime()));
+        writeCookie(response, token, timeout);
+    }
+
+    /**
+     * 만료 세션 배치 삭제
+     */
+    @Scheduled(fixedDelayString = "${vlog.auth.session-purge-ms:60000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        nearCache.values().removeIf(cached -> !cached.expiresAt().isAfter(now));
+
+        int purged = 0;
+        while (true) {
+            List<String> keys = authSessionRepository.findExpiredKeys(now, PageRequest.of(0, PURGE_BATCH_SIZE));
+            if (keys.isEmpty()) {
+                break;
+            }
+            authSessionRepository.deleteAllByIdInBatch(keys);
+            purged += keys.size();
+            if (keys.size() < PURGE_BATCH_SIZE) {
+                break;
+            }
+        }
+        if (purged > 0) {
+            log.info("Expired auth sessions purged: {}", purged);
+        }
+    }
+
+    // === Helper Methods ===
+
+    private SecurityContext load(HttpServletRequest request) {
+        String key = readKey(request);
+        if (key == null) {
+            return null;
+        }
+
+        Instant now = Instant.now();
+        CachedSession cached = nearCache.get(key);
+        if (cached == null || System.nanoTime() - cached.loadedAt() > nearCacheTtlNanos) {
+            cached = authSessionRepository.findById(key)
+                    .map(session -> new CachedSession(decode(session.getPayload()), session.getPayload(),
+                            session.getExpiresAt(), System.nanoTime()))
+                    .orElse(null);
+            if (cached == null) {
+                nearCache.remove(key);
+                return null;
+            }
+            cache(key, cached);
+        }
+
+        if (!cached.expiresAt().isAfter(now)) {
+            nearCache.remove(key);
+            return null;
+        }
+
+        // 슬라이딩 만료: 남은 시간이 절반 이하일 때만 연장
+        if (Duration.between(now, cached.expiresAt()).compareTo(timeout.dividedBy(2)) < 0) {
+            Instant extended = now.plus(timeout);
+            authSessionRepository.touch(key, extended);
+            cache(key, new CachedSession(cached.principal(), cached.payload(), extended, cached.loadedAt()));
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        AuthUser principal = cached.principal();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()));
+        return context;
+    }
+
+    private void remove(String key) {
+        authSessionRepository.deleteBySessionKey(key);
+        nearCache.remove(key);
+    }
+
+    private void cache(String key, CachedSession cached) {
+        if (nearCache.size() >= nearCacheMaxSize && !nearCache.containsKey(key)) {
+            nearCache.clear();
+        }
+        nearCache.put(key, cached);
+    }
+
+    private String readKey(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                return hash(cookie.getValue());
+            }
+        }
+        return null;
+    }
+
+    private void writeCookie(HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(cookieName, value)
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .sameSite(cookieSameSite)
+                .path("/")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    // version(1) | userId(8) | blogId(8) | emailLength(2) | email | nickname
+    private static byte[] encode(AuthUser principal) {
+        byte[] email = principal.getEmail() == null ? new byte[0] : principal.getEmail().getBytes(StandardCharsets.UTF_8);
+        byte[] nickname = principal.getNickname().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(1 + 8 + 8 + 2 + email.length + nickname.length)
+                .put(VERSION)
+                .putLong(principal.getUserId())
+                .putLong(principal.getBlogId())
+                .putShort((short) email.length)
+                .put(email)
+                .put(nickname)
+                .array();
+    }
+
+    private static AuthUser decode(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        if (buffer.get() != VERSION) {
+            throw new IllegalStateException("지원하지 않는 세션 형식");
+        }
+        long userId = buffer.getLong();
+        long blogId = buffer.getLong();
+        byte[] email = new byte[buffer.getShort()];
+        buffer.get(email);
+        String nickname = StandardCharsets.UTF_8.decode(buffer).toString();
+        return AuthUser.of(userId, blogId, email.length == 0 ? null : new String(email, StandardCharsets.UTF_8), nickname);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedSession(AuthUser principal, byte[] payload, Instant expiresAt, long loadedAt) {
+    }
+
+    /**
+     * 실제로 인증 정보가 필요할 때 한 번만 조회
+     */
+    private static final class LazyContext implements DeferredSecurityContext {
+        private final Supplier<SecurityContext> loader;
+        private SecurityContext context;
+        private boolean generated;
+
+        LazyContext(Supplier<SecurityContext> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public SecurityContext get() {
+            if (context == null) {
+                context = loader.get();
+                if (context == null) {
+                    context = SecurityContextHolder.createEmptyContext();
+                    generated = true;
+                }
+            }
+            return context;
+        }
+
+        @Override
+        public boolean isGenerated() {
+            get();
+            return generated;
+        }
+    }
+}
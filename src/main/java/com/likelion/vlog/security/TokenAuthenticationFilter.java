@@ -0,0 +1,45 @@
+package com.likelion.vlog.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authorization: Bearer 토큰 인증 (토큰 인증 모드)
+ * - 토큰이 없거나 유효하지 않으면 인증 없이 통과시키고, 보호된 경로는 AuthEntryPoint가 401 처리
+ * - 빈으로 등록하지 않음 (서블릿 필터로 자동 등록되지 않도록 ProjectSecurityConfig에서 직접 생성)
+ */
+@RequiredArgsConstructor
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+
+    private final TokenProvider tokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = TokenProvider.bearerToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+        if (token != null) {
+            tokenProvider.parse(token)
+                    .filter(claims -> !tokenRevocationList.isRevoked(claims.tokenId()))
+                    .ifPresent(claims -> {
+                        AuthUser principal = claims.toAuthUser();
+                        SecurityContext context = SecurityContextHolder.createEmptyContext();
+                        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                                principal, null, principal.getAuthorities()));
+                        SecurityContextHolder.setContext(context);
+                    });
+        }
+        filterChain.doFilter(request, response);
+    }
+}
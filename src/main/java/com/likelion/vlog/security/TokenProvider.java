@@ -0,0 +1,152 @@
+package com.likelion.vlog.security;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * HMAC-SHA256 서명 액세스 토큰 발급/검증 (외부 라이브러리 없이)
+ * - 형식: base64url(payload) + "." + base64url(HMAC(payload))
+ * - payload(바이너리): version(1) | tokenId(8) | familyId(8) | userId(8) | blogId(8) | expiresAt(8, epoch 초) | nickname(UTF-8)
+ * - familyId: 같은 로그인에서 재발급으로 이어진 토큰들의 공통 ID (로그아웃 시 리프레시 토큰까지 함께 폐기)
+ * - 검증은 서명 비교와 만료 확인뿐이라 요청마다 DB/세션 조회가 없음
+ */
+@Component
+public class TokenProvider {
+
+    private static final byte VERSION = 2;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int FIXED_LENGTH = 1 + 8 * 5;
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Value("${vlog.auth.mode:session}")
+    private String authMode;
+
+    @Value("${vlog.auth.token-secret:}")
+    private String secret;
+
+    @Value("${vlog.auth.access-token-ttl:15m}")
+    private Duration accessTokenTtl;
+
+    private Mac prototype;
+
+    @PostConstruct
+    void init() throws GeneralSecurityException {
+        if (!"token".equalsIgnoreCase(authMode)) {
+            return;
+        }
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
+        if (key.length < 32) {
+            throw new IllegalStateException("vlog.auth.token-secret은 32바이트 이상이어야 합니다.");
+        }
+        prototype = Mac.getInstance(ALGORITHM);
+        prototype.init(new SecretKeySpec(key, ALGORITHM));
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    /**
+     * Authorization 헤더에서 Bearer 토큰만 꺼냄 (없거나 다른 방식이면 null)
+     */
+    public static String bearerToken(String authorization) {
+        return authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? authorization.substring(BEARER_PREFIX.length())
+                : null;
+    }
+
+    public IssuedToken issue(AuthUser authUser, long familyId) {
+        long tokenId = random.nextLong();
+        Instant expiresAt = Instant.now().plus(accessTokenTtl);
+        byte[] nickname = authUser.getNickname().getBytes(StandardCharsets.UTF_8);
+
+        byte[] payload = ByteBuffer.allocate(FIXED_LENGTH + nickname.length)
+                .put(VERSION)
+                .putLong(tokenId)
+                .putLong(familyId)
+                .putLong(authUser.getUserId())
+                .putLong(authUser.getBlogId())
+                .putLong(expiresAt.getEpochSecond())
+                .put(nickname)
+                .array();
+
+        String token = ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+        return new IssuedToken(token, tokenId, expiresAt);
+    }
+
+    /**
+     * 서명/만료 검증 후 클레임 반환 (실패 사유는 구분하지 않고 empty)
+     */
+    public Optional<TokenClaims> parse(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return Optional.empty();
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(payload);
+            if (buffer.get() != VERSION) {
+                return Optional.empty();
+            }
+            long tokenId = buffer.getLong();
+            long familyId = buffer.getLong();
+            long userId = buffer.getLong();
+            long blogId = buffer.getLong();
+            Instant expiresAt = Instant.ofEpochSecond(buffer.getLong());
+            String nickname = StandardCharsets.UTF_8.decode(buffer).toString();
+
+            if (!expiresAt.isAfter(Instant.now())) {
+                return Optional.empty();
+            }
+            return Optional.of(new TokenClaims(tokenId, familyId, userId, blogId, nickname, expiresAt));
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        if (prototype == null) {
+            throw new IllegalStateException("토큰 인증 모드가 아닙니다.");
+        }
+        try {
+            // Mac은 스레드 안전하지 않으므로 초기화된 인스턴스를 복제해 사용
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(payload);
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record IssuedToken(String token, long tokenId, Instant expiresAt) {
+    }
+
+    public record TokenClaims(long tokenId, long familyId, long userId, long blogId, String nickname, Instant expiresAt) {
+
+        public AuthUser toAuthUser() {
+            return AuthUser.of(userId, blogId, nickname);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.likelion.vlog.security;
+
+import com.likelion.vlog.repository.RevokedTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 액세스 토큰 ID (인메모리)
+ * - 요청마다 DB를 보지 않도록 revoked_tokens 테이블을 메모리에 들고 있고, 다른 인스턴스의 폐기분은 주기적으로 다시 읽음
+ * - 만료된 토큰은 서명 검증 단계에서 걸러지므로 만료 시각이 지난 항목은 버림
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationList {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${vlog.auth.mode:session}")
+    private String authMode;
+
+    // tokenId -> 토큰 만료 시각
+    private volatile Map<Long, Instant> revoked = new ConcurrentHashMap<>();
+
+    public boolean isRevoked(long tokenId) {
+        return revoked.containsKey(tokenId);
+    }
+
+    // 이 인스턴스에서 폐기한 토큰은 다음 재적재를 기다리지 않고 바로 반영
+    public void add(long tokenId, Instant expiresAt) {
+        revoked.put(tokenId, expiresAt);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${vlog.auth.revocation-reload-ms:30000}")
+    public void reload() {
+        if (!"token".equalsIgnoreCase(authMode)) {
+            return;
+        }
+        Instant now = Instant.now();
+        Map<Long, Instant> loaded = new HashMap<>();
+        for (Object[] row : revokedTokenRepository.findActive(now)) {
+            loaded.put((Long) row[0], (Instant) row[1]);
+        }
+
+        // 적재 중 add된 항목 유지
+        Map<Long, Instant> next = new ConcurrentHashMap<>(loaded);
+        revoked.forEach((tokenId, expiresAt) -> {
+            if (expiresAt.isAfter(now)) {
+                next.putIfAbsent(tokenId, expiresAt);
+            }
+        });
+        revoked = next;
+    }
+}
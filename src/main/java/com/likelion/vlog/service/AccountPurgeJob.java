@@ -0,0 +1,193 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 탈퇴 계정 정리 배치
+ * - UserService.deleteUser는 deleted_at만 기록하고, 연관 데이터는 여기서 주기적으로 삭제
+ * - 단계마다 PK 순으로 batchSize개씩 읽어 IN 절 일괄 UPDATE/DELETE, 배치마다 트랜잭션을 나눠 락 점유를 짧게 유지
+ * - 삭제한 행은 다시 읽히지 않으므로 항상 첫 페이지만 읽으면 키셋 순서대로 진행됨
+ * - 순서: 팔로우 → 게시글(답글, 댓글, 좋아요, 태그 매핑 포함) → 내가 쓴 댓글 → 내가 누른 좋아요 → User/Blog
+ * - User/Blog 삭제 직전 전 단계를 다시 훑어, 단계가 지난 뒤 생긴 행 때문에 FK로 실패하지 않게 함
+ * - 중간에 실패해도 deleted_at이 남아 있으므로 다음 실행에서 남은 단계부터 이어서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountPurgeJob {
+
+    private static final int MAX_RESWEEPS = 3;
+
+    private final UserRepository userRepository;
+    private final FollowRepository followRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final PostCascadeDeleter postCascadeDeleter;
+    private final FeedService feedService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${vlog.account-purge.batch-size:500}")
+    private int batchSize;
+
+    // 게시글은 댓글/좋아요를 함께 지우므로 더 작은 단위로
+    @Value("${vlog.account-purge.post-batch-size:50}")
+    private int postBatchSize;
+
+    // 한 번 실행에 정리할 최대 계정 수
+    @Value("${vlog.account-purge.accounts-per-run:10}")
+    private int accountsPerRun;
+
+    @Scheduled(fixedDelayString = "${vlog.account-purge.interval-ms:60000}")
+    public void purgeDeletedAccounts() {
+        List<Long> userIds = userRepository.findDeletedIds(PageRequest.of(0, accountsPerRun));
+        for (Long userId : userIds) {
+            try {
+                purge(userId);
+            } catch (RuntimeException e) {
+                log.warn("Account purge failed, will retry: userId={}", userId, e);
+            }
+        }
+    }
+
+    private void purge(Long userId) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Long blogId = tx.execute(status -> userRepository.findById(userId)
+                .map(user -> user.getBlog().getId())
+                .orElse(null));
+        if (blogId == null) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        log.info("Account purge started: userId={}", userId);
+
+        int[] swept = sweep(tx, userId, blogId);
+
+        // 앞 단계가 끝난 뒤 커밋된 행(탈퇴 직전에 시작된 요청 등)이 남으면 User 삭제가 FK로 실패하므로,
+        // 남은 행이 없을 때까지 전 단계를 다시 훑음 (그래도 남으면 삭제 실패 → 다음 실행에서 처음부터 재시도)
+        for (int pass = 0; pass < MAX_RESWEEPS; pass++) {
+            int[] late = sweep(tx, userId, blogId);
+            int lateRows = Arrays.stream(late).sum();
+            if (lateRows == 0) {
+                break;
+            }
+            log.info("Account purge re-swept late rows: userId={}, rows={}", userId, lateRows);
+            Arrays.setAll(swept, i -> swept[i] + late[i]);
+        }
+
+        // Blog는 cascade=ALL이므로 User 삭제 시 함께 삭제됨
+        tx.executeWithoutResult(status -> userRepository.findById(userId)
+                .filter(user -> user.getDeletedAt() != null)
+                .ifPresent(userRepository::delete));
+
+        log.info("Account purge finished: userId={}, followings={}, followers={}, posts={}, comments={}, likes={}, elapsedMs={}",
+                userId, swept[0], swept[1], swept[2], swept[3], swept[4], System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 연관 데이터 전 단계 정리, 단계별 삭제 행 수 (followings, followers, posts, comments, likes)
+     */
+    private int[] sweep(TransactionTemplate tx, Long userId, Long blogId) {
+        return new int[]{
+                drain(tx, userId, "followings", () -> purgeFollowings(userId)),
+                drain(tx, userId, "followers", () -> purgeFollowers(userId)),
+                drain(tx, userId, "posts", () -> purgePosts(blogId)),
+                drain(tx, userId, "comments", () -> purgeComments(userId)),
+                drain(tx, userId, "likes", () -> purgeLikes(userId))
+        };
+    }
+
+    /**
+     * 한 단계를 빈 배치가 나올 때까지 반복, 배치마다 별도 트랜잭션
+     */
+    private int drain(TransactionTemplate tx, Long userId, String stage, Supplier<Integer> batch) {
+        int total = 0;
+        while (true) {
+            Integer rows = tx.execute(status -> batch.get());
+            if (rows == null || rows == 0) {
+                return total;
+            }
+            total += rows;
+            log.debug("Account purge progress: userId={}, stage={}, rows={}", userId, stage, total);
+        }
+    }
+
+    // 내가 팔로우하던 사용자들의 팔로워 수 감소 후 관계 삭제
+    private int purgeFollowings(Long userId) {
+        List<Object[]> edges = followRepository.findFollowingEdgesOf(userId, page(batchSize));
+        if (edges.isEmpty()) {
+            return 0;
+        }
+        userRepository.decrementFollowerCounts(column(edges, 1));
+        followRepository.deleteAllByIdInBatch(column(edges, 0));
+        return edges.size();
+    }
+
+    // 나를 팔로우하던 사용자들의 팔로잉 수 감소 후 관계 삭제
+    private int purgeFollowers(Long userId) {
+        List<Object[]> edges = followRepository.findFollowerEdgesOf(userId, page(batchSize));
+        if (edges.isEmpty()) {
+            return 0;
+        }
+        userRepository.decrementFollowingCounts(column(edges, 1));
+        followRepository.deleteAllByIdInBatch(column(edges, 0));
+        return edges.size();
+    }
+
+    // 내 게시글: 답글, 댓글, 좋아요, 태그 매핑까지 함께 삭제
+    private int purgePosts(Long blogId) {
+        List<Long> postIds = postRepository.findIdsByBlogId(blogId, page(postBatchSize));
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        postCascadeDeleter.delete(postIds);
+        feedService.onPostsDeleted(blogId, postIds);
+        return postIds.size();
+    }
+
+    // 다른 게시글에 내가 쓴 댓글: 달린 답글 먼저 삭제
+    private int purgeComments(Long userId) {
+        List<Long> commentIds = commentRepository.findIdsByUserId(userId, page(batchSize));
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+        commentRepository.deleteAllByParentIdIn(commentIds);
+        commentRepository.deleteAllByIdInBatch(commentIds);
+        return commentIds.size();
+    }
+
+    // 다른 게시글에 내가 누른 좋아요: 게시글 좋아요 수 감소 후 삭제
+    private int purgeLikes(Long userId) {
+        List<Object[]> rows = likeRepository.findIdAndPostIdByUserId(userId, page(batchSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        postRepository.decrementLikeCounts(column(rows, 1));
+        likeRepository.deleteAllByIdInBatch(column(rows, 0));
+        return rows.size();
+    }
+
+    private static Pageable page(int size) {
+        return PageRequest.of(0, size);
+    }
+
+    private static List<Long> column(List<Object[]> rows, int index) {
+        return rows.stream()
+                .map(row -> (Long) row[index])
+                .toList();
+    }
+}
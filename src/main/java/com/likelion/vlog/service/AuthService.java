@@ -1,34 +1,53 @@
 package com.likelion.vlog.service;
 
+import com.likelion.vlog.cache.AfterCommit;
+import com.likelion.vlog.cache.SuggestIndex;
 import com.likelion.vlog.dto.auth.SignupRequest;
 import com.likelion.vlog.dto.users.UserGetResponse;
+import com.likelion.vlog.entity.Blog;
 import com.likelion.vlog.entity.User;
 import com.likelion.vlog.exception.DuplicateException;
+import com.likelion.vlog.exception.NotFoundException;
 import com.likelion.vlog.repository.UserRepository;
+import com.likelion.vlog.security.AuthUser;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
-public class AuthService implements UserDetailsService {
+public class AuthService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SuggestIndex suggestIndex;
 
+    // 가입 직후 로그인이나 비밀번호 변경 직후에도 최신 값을 보도록 복제본이 아닌 primary에서 조회
     @Override
+    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(username)
+        User user = userRepository.findByEmailAndDeletedAtIsNull(username)
                 .orElseThrow(() -> new UsernameNotFoundException("없는 이메일"));
-        return toUserDetail(user);
+        return AuthUser.from(user);
+    }
+
+    /**
+     * 로그인 성공 시 저장된 해시의 비용 계수가 현재 설정보다 낮으면 DaoAuthenticationProvider가 호출
+     * - 새 해시로 교체 후 갱신된 principal 반환
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmailAndDeletedAtIsNull(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("없는 이메일"));
+        user.changePassword(newPassword);
+        return AuthUser.from(user);
     }
 
     @Transactional
@@ -38,21 +57,15 @@ public class AuthService implements UserDetailsService {
         }
         User user = User.of(dto, passwordEncoder);
         userRepository.save(user);
-        return UserGetResponse.of(user);
-    }
 
-    public UserGetResponse getUserInfo(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("없는 이메일"));
+        Blog blog = user.getBlog();
+        AfterCommit.run(() -> suggestIndex.onUserCreated(user.getId(), user.getNickname(), blog.getId(), blog.getTitle()));
         return UserGetResponse.of(user);
     }
 
-    private UserDetails toUserDetail(User user){
-        return org.springframework.security.core.userdetails.User
-                .builder()
-                .username(user.getEmail())
-                .password(user.getPassword())
-                .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER")))
-                .build();
+    public UserGetResponse getUserInfo(Long userId) {
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
+                .orElseThrow(() -> NotFoundException.user(userId));
+        return UserGetResponse.of(user);
     }
 }
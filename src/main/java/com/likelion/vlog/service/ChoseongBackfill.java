@@ -0,0 +1,65 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.repository.BlogRepository;
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.UserRepository;
+import com.likelion.vlog.util.HangulUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 초성 그림자 컬럼 채우기
+ * - 엔티티는 쓰기 시점에 초성을 함께 저장하지만, 컬럼 추가 이전 행이나 data.sql로 넣은 행은 비어 있음
+ * - 기동 시 비어 있는 행만 배치 단위 트랜잭션으로 채움 (다 채워진 뒤에는 조회 한 번으로 끝남)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChoseongBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final BlogRepository blogRepository;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int posts = fill(postRepository::findIdAndTitleWithoutChoseong, postRepository::updateTitleChoseong);
+        int blogs = fill(blogRepository::findIdAndTitleWithoutChoseong, blogRepository::updateTitleChoseong);
+        int users = fill(userRepository::findIdAndNicknameWithoutChoseong, userRepository::updateNicknameChoseong);
+
+        if (posts + blogs + users > 0) {
+            log.info("Choseong columns backfilled: posts={}, blogs={}, users={}", posts, blogs, users);
+        }
+    }
+
+    // [id, 원문] 행을 더 이상 없을 때까지 읽어 초성 저장 (채운 행은 다음 조회에서 빠짐)
+    private int fill(Function<Pageable, List<Object[]>> findEmpty, BiConsumer<Long, String> update) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        int filled = 0;
+        while (true) {
+            Integer rows = tx.execute(status -> {
+                List<Object[]> batch = findEmpty.apply(PageRequest.of(0, BATCH_SIZE));
+                batch.forEach(row -> update.accept((Long) row[0], HangulUtils.choseong((String) row[1])));
+                return batch.size();
+            });
+            filled += rows == null ? 0 : rows;
+            if (rows == null || rows < BATCH_SIZE) {
+                return filled;
+            }
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.likelion.vlog.service;
 
 import com.likelion.vlog.dto.comments.*;
+import com.likelion.vlog.dto.posts.AuthorResponse;
 import com.likelion.vlog.entity.Comment;
 import com.likelion.vlog.entity.Post;
 import com.likelion.vlog.entity.User;
 import com.likelion.vlog.exception.ForbiddenException;
 import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.exception.UnauthorizedException;
 import com.likelion.vlog.repository.CommentRepository;
 import com.likelion.vlog.repository.PostRepository;
 import com.likelion.vlog.repository.UserRepository;
+import com.likelion.vlog.security.AuthUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -44,44 +47,44 @@ public class CommentService {
      * 댓글 작성
      */
     @Transactional
-    public CommentPostResponse createComment(Long postId, CommentCreatePostRequest request, String email) {
+    public CommentPostResponse createComment(Long postId, CommentCreatePostRequest request, AuthUser authUser) {
         Post post = findPostById(postId);
-        User user = findUserByEmail(email);
+        User user = findActiveUser(authUser.getUserId());
 
         Comment comment = Comment.of(user, post, request.getContent());
         Comment savedComment = commentRepository.save(comment);
 
-        return CommentPostResponse.from(savedComment);
+        return CommentPostResponse.of(savedComment, AuthorResponse.from(user));
     }
 
     /**
      * 댓글 수정
      */
     @Transactional
-    public CommentPutResponse updateComment(Long postId, Long commentId, CommentUpdatePutRequest request, String email) {
+    public CommentPutResponse updateComment(Long postId, Long commentId, CommentUpdatePutRequest request, AuthUser authUser) {
         Post post = findPostById(postId);
         Comment comment = findCommentById(commentId);
 
         validateCommentBelongsToPost(comment, post);
         validateCommentIsNotReply(comment);
-        validateOwnership(comment, email, true);
+        validateOwnership(comment, authUser.getUserId(), true);
 
         comment.update(request.getContent());
 
-        return CommentPutResponse.from(comment);
+        return CommentPutResponse.of(comment, AuthorResponse.from(comment.getUser()));
     }
 
     /**
      * 댓글 삭제
      */
     @Transactional
-    public void deleteComment(Long postId, Long commentId, String email) {
+    public void deleteComment(Long postId, Long commentId, Long userId) {
         Post post = findPostById(postId);
         Comment comment = findCommentById(commentId);
 
         validateCommentBelongsToPost(comment, post);
         validateCommentIsNotReply(comment);
-        validateOwnership(comment, email, false);
+        validateOwnership(comment, userId, false);
 
         commentRepository.delete(comment);
     }
@@ -90,51 +93,51 @@ public class CommentService {
      * 답글 작성
      */
     @Transactional
-    public ReplyPostResponse createReply(Long postId, Long commentId, ReplyCreatePostRequest request, String email) {
+    public ReplyPostResponse createReply(Long postId, Long commentId, ReplyCreatePostRequest request, AuthUser authUser) {
         Post post = findPostById(postId);
         Comment parentComment = findCommentById(commentId);
 
         validateCommentBelongsToPost(parentComment, post);
         validateCommentIsNotReply(parentComment);
 
-        User user = findUserByEmail(email);
+        User user = findActiveUser(authUser.getUserId());
 
         Comment reply = Comment.ofReply(user, post, parentComment, request.getContent());
         Comment savedReply = commentRepository.save(reply);
 
-        return ReplyPostResponse.from(savedReply);
+        return ReplyPostResponse.of(savedReply, AuthorResponse.from(user));
     }
 
     /**
      * 답글 수정
      */
     @Transactional
-    public ReplyPutResponse updateReply(Long postId, Long commentId, Long replyId, ReplyUpdatePutRequest request, String email) {
+    public ReplyPutResponse updateReply(Long postId, Long commentId, Long replyId, ReplyUpdatePutRequest request, AuthUser authUser) {
         Post post = findPostById(postId);
         Comment parentComment = findCommentById(commentId);
         Comment reply = findCommentById(replyId);
 
         validateCommentBelongsToPost(parentComment, post);
         validateReplyBelongsToComment(reply, parentComment);
-        validateOwnership(reply, email, true);
+        validateOwnership(reply, authUser.getUserId(), true);
 
         reply.update(request.getContent());
 
-        return ReplyPutResponse.from(reply);
+        return ReplyPutResponse.of(reply, AuthorResponse.from(reply.getUser()));
     }
 
     /**
      * 답글 삭제
      */
     @Transactional
-    public void deleteReply(Long postId, Long commentId, Long replyId, String email) {
+    public void deleteReply(Long postId, Long commentId, Long replyId, Long userId) {
         Post post = findPostById(postId);
         Comment parentComment = findCommentById(commentId);
         Comment reply = findCommentById(replyId);
 
         validateCommentBelongsToPost(parentComment, post);
         validateReplyBelongsToComment(reply, parentComment);
-        validateOwnership(reply, email, false);
+        validateOwnership(reply, userId, false);
 
         commentRepository.delete(reply);
     }
@@ -142,15 +145,10 @@ public class CommentService {
     // === Helper Methods ===
 
     private Post findPostById(Long postId) {
-        return postRepository.findById(postId)
+        return postRepository.findByIdAndDeletedAtIsNull(postId)
                 .orElseThrow(() -> NotFoundException.post(postId));
     }
 
-    private User findUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> NotFoundException.user(email));
-    }
-
     private Comment findCommentById(Long commentId) {
         return commentRepository.findById(commentId)
                 .orElseThrow(() -> NotFoundException.comment(commentId));
@@ -174,8 +172,9 @@ public class CommentService {
         }
     }
 
-    private void validateOwnership(Comment comment, String email, boolean isUpdate) {
-        if (!comment.getUser().getEmail().equals(email)) {
+    // 프록시의 ID만 비교하므로 작성자 User는 로딩되지 않음
+    private void validateOwnership(Comment comment, Long userId, boolean isUpdate) {
+        if (!comment.getUser().getId().equals(userId)) {
             if (isUpdate) {
                 throw ForbiddenException.commentUpdate();
             } else {
@@ -183,4 +182,13 @@ public class CommentService {
             }
         }
     }
+
+    // 탈퇴 처리된 계정은 남은 세션/토큰으로도 쓰지 못하게 함 (정리 배치가 지운 뒤 새 행이 생기지 않도록)
+    // - findById는 2차 캐시(users)에서 읽으므로 쓰기마다 사용자 SELECT가 나가지 않음
+    // - 응답의 작성자 닉네임도 이 엔티티에서 읽어 다른 세션에서 바꾼 닉네임이 반영됨
+    private User findActiveUser(Long userId) {
+        return userRepository.findById(userId)
+                .filter(user -> user.getDeletedAt() == null)
+                .orElseThrow(UnauthorizedException::loginRequired);
+    }
 }
@@ -0,0 +1,227 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.cache.AfterCommit;
+import com.likelion.vlog.cache.BlogPostStreams;
+import com.likelion.vlog.cache.FollowGraph;
+import com.likelion.vlog.cache.TimelineStore;
+import com.likelion.vlog.dto.feed.FeedGetResponse;
+import com.likelion.vlog.dto.posts.PostListGetResponse;
+import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.repository.BlogRepository;
+import com.likelion.vlog.repository.FollowRepository;
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 피드 (팔로우한 사용자의 게시글)
+ * - 일반 작성자: 글 작성 시 팔로워 타임라인에 postId를 밀어넣음 (fan-out-on-write)
+ * - 팔로워가 celebrityThreshold를 넘는 작성자: 밀어넣지 않고 조회 시점에 가져와 병합 (fan-out-on-read)
+ * - vlog.feed.mode=pull: 타임라인 없이 팔로우한 블로그별 최근 게시글 스트림을 k-way 병합 (쓰기가 적은 배포용)
+ * - postId는 IDENTITY로 증가하므로 최신순 = postId 내림차순, 커서도 postId 사용
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeedService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final PostRepository postRepository;
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final BlogRepository blogRepository;
+    private final TimelineStore timelineStore;
+    private final BlogPostStreams blogPostStreams;
+    private final FollowGraph followGraph;
+
+    @Value("${vlog.feed.celebrity-threshold:10000}")
+    private int celebrityThreshold;
+
+    /**
+     * 피드 조회
+     * - cursor: 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public FeedGetResponse getFeed(Long userId, Long cursor, int size) {
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE)) + 1;
+
+        List<Long> merged = blogPostStreams.isEnabled()
+                ? readBlogStreams(userId, before, limit)
+                : mergeDescending(readTimeline(userId, before, limit), readCelebrityPosts(userId, before, limit), limit);
+
+        boolean hasNext = merged.size() == limit;
+        List<Long> pageIds = hasNext ? merged.subList(0, limit - 1) : merged;
+        Long nextCursor = hasNext ? pageIds.get(pageIds.size() - 1) : null;
+
+        return FeedGetResponse.of(toResponses(pageIds), nextCursor);
+    }
+
+    /**
+     * 새 게시글 fan-out
+     * - pull 모드: 작성 블로그의 스트림에만 추가
+     * - push 모드: 트랜잭션 안에서 팔로워 목록을 확정하고, 타임라인 반영은 커밋 이후에 수행
+     */
+    public void onPostCreated(Long authorId, Post post) {
+        Long postId = post.getId();
+        if (blogPostStreams.isEnabled()) {
+            Long blogId = post.getBlog().getId();
+            AfterCommit.run(() -> blogPostStreams.add(authorId, blogId, postId));
+            return;
+        }
+        int followerCount = followGraph.isReady()
+                ? followGraph.followerCount(authorId)
+                : userRepository.findFollowerCountById(authorId);
+        if (followerCount > celebrityThreshold) {
+            return;
+        }
+
+        long[] followerIds = followGraph.isReady()
+                ? followGraph.followerIds(authorId)
+                : followRepository.findFollowerIds(authorId).stream().mapToLong(Long::longValue).toArray();
+
+        AfterCommit.run(() -> {
+            for (long followerId : followerIds) {
+                timelineStore.push(followerId, postId);
+            }
+        });
+    }
+
+    /**
+     * 게시글 삭제 시 블로그 스트림에서 제거 (push 모드 타임라인은 응답 조립 시 걸러짐)
+     */
+    public void onPostDeleted(Post post) {
+        Long blogId = post.getBlog().getId();
+        Long postId = post.getId();
+        AfterCommit.run(() -> blogPostStreams.remove(blogId, postId));
+    }
+
+    /**
+     * 게시글 일괄 삭제 시 블로그 스트림에서 제거 (탈퇴 정리 배치)
+     */
+    public void onPostsDeleted(Long blogId, List<Long> postIds) {
+        AfterCommit.run(() -> postIds.forEach(postId -> blogPostStreams.remove(blogId, postId)));
+    }
+
+    /**
+     * 팔로우/언팔로우 시 타임라인 폐기 (다음 조회 때 재구성)
+     */
+    public void onFollowChanged(Long followerId) {
+        AfterCommit.run(() -> timelineStore.invalidate(followerId));
+    }
+
+    // === Helper Methods ===
+
+    /**
+     * 타임라인에서 cursor 이전 postId를 limit개까지
+     * - 타임라인이 상한까지 차 있어 잘렸을 수 있으면 나머지는 DB에서 이어서 조회
+     */
+    private List<Long> readTimeline(Long userId, long before, int limit) {
+        long[] timeline = timelineStore.get(userId);
+        if (timeline == null) {
+            timeline = postRepository.findFeedPostIds(userId, celebrityThreshold, Long.MAX_VALUE,
+                            PageRequest.of(0, timelineStore.getTimelineSize()))
+                    .stream().mapToLong(Long::longValue).toArray();
+            timelineStore.put(userId, timeline);
+        }
+
+        List<Long> ids = new ArrayList<>(limit);
+        for (long postId : timeline) {
+            if (ids.size() == limit) {
+                break;
+            }
+            if (postId < before) {
+                ids.add(postId);
+            }
+        }
+
+        if (ids.size() < limit && timeline.length >= timelineStore.getTimelineSize()) {
+            long oldest = Math.min(before, timeline[timeline.length - 1]);
+            ids.addAll(postRepository.findFeedPostIds(userId, celebrityThreshold, oldest,
+                    PageRequest.of(0, limit - ids.size())));
+        }
+        return ids;
+    }
+
+    /**
+     * pull 모드: 팔로우한 블로그 스트림을 k-way 병합
+     * - 스트림에 없는 구간(오래된 게시글, 적재 전)만 DB에서 한 번에 이어 읽음
+     */
+    private List<Long> readBlogStreams(Long userId, long before, int limit) {
+        if (!blogPostStreams.isReady()) {
+            List<Long> blogIds = blogRepository.findFollowingBlogIds(userId);
+            return blogIds.isEmpty()
+                    ? List.of()
+                    : postRepository.findIdsByBlogIds(blogIds, before, PageRequest.of(0, limit));
+        }
+
+        List<Long> blogIds = followGraph.isReady()
+                ? blogPostStreams.blogIdsOf(followGraph.followingIds(userId))
+                : blogRepository.findFollowingBlogIds(userId);
+        if (blogIds.isEmpty()) {
+            return List.of();
+        }
+
+        BlogPostStreams.Merged merged = blogPostStreams.merge(blogIds, before, limit);
+        List<Long> ids = new ArrayList<>(merged.postIds());
+        if (ids.size() < limit && merged.needsDatabase()) {
+            long from = ids.isEmpty() ? before : ids.get(ids.size() - 1);
+            ids.addAll(postRepository.findIdsByBlogIds(blogIds, from, PageRequest.of(0, limit - ids.size())));
+        }
+        return ids;
+    }
+
+    private List<Long> readCelebrityPosts(Long userId, long before, int limit) {
+        List<Long> celebrityIds = followRepository.findCelebrityFollowingIds(userId, celebrityThreshold);
+        if (celebrityIds.isEmpty()) {
+            return List.of();
+        }
+        return postRepository.findIdsByAuthorIds(celebrityIds, before, PageRequest.of(0, limit));
+    }
+
+    // 두 내림차순 목록 병합 (중복 제거)
+    private List<Long> mergeDescending(List<Long> a, List<Long> b, int limit) {
+        List<Long> merged = new ArrayList<>(limit);
+        int i = 0, j = 0;
+        long last = Long.MAX_VALUE;
+        while (merged.size() < limit && (i < a.size() || j < b.size())) {
+            long next;
+            if (j >= b.size() || (i < a.size() && a.get(i) >= b.get(j))) {
+                next = a.get(i++);
+            } else {
+                next = b.get(j++);
+            }
+            if (next < last) {
+                merged.add(next);
+                last = next;
+            }
+        }
+        return merged;
+    }
+
+    // postId 순서를 유지한 채 응답 변환 (그 사이 삭제된 게시글은 제외)
+    private List<PostListGetResponse> toResponses(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> posts = postRepository.findAllWithAuthorByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        return postIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .map(PostListGetResponse::of)
+                .toList();
+    }
+}
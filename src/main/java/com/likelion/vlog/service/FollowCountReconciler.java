@@ -0,0 +1,43 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 팔로워/팔로잉 수 보정 배치
+ * - users.follower_count / following_count를 follows 기준으로 재계산
+ * - 락 점유를 짧게 하기 위해 user_id 구간별로 트랜잭션을 나눠 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowCountReconciler {
+
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${vlog.follow-count.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${vlog.follow-count.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long maxId = userRepository.findMaxId();
+        int updated = 0;
+
+        for (long start = 1; start <= maxId; start += batchSize) {
+            long fromId = start;
+            long toId = start + batchSize - 1;
+            Integer rows = tx.execute(status -> userRepository.reconcileFollowCounts(fromId, toId));
+            updated += rows == null ? 0 : rows;
+        }
+
+        log.info("Follow counts reconciled: users={}", updated);
+    }
+}
@@ -1,5 +1,8 @@
 package com.likelion.vlog.service;
 
+import com.likelion.vlog.cache.AfterCommit;
+import com.likelion.vlog.cache.FollowGraph;
+import com.likelion.vlog.cache.SuggestIndex;
 import com.likelion.vlog.dto.follows.FollowerGetResponse;
 import com.likelion.vlog.dto.follows.FollowingGetResponse;
 import com.likelion.vlog.dto.follows.FollowDeleteResponse;
@@ -9,14 +12,24 @@ import com.likelion.vlog.entity.User;
 import com.likelion.vlog.exception.BadRequestException;
 import com.likelion.vlog.exception.DuplicateException;
 import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.exception.UnauthorizedException;
 import com.likelion.vlog.repository.FollowRepository;
 import com.likelion.vlog.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 
 @Service
 @RequiredArgsConstructor
@@ -25,34 +38,52 @@ public class FollowService {
 
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
+    private final FollowGraph followGraph;
+    private final SuggestIndex suggestIndex;
+    private final FeedService feedService;
+    private final FollowSuggestionService followSuggestionService;
 
     /**
      * 팔로우
      * - 현재 로그인한 사용자가 특정 사용자를 팔로우
      */
     @Transactional
-    public FollowPostResponse follow(Long userId, String email) {
-        // 현재 로그인한 사용자 조회
-        User follower = userRepository.findByEmail(email)
-                .orElseThrow(() -> NotFoundException.user(email));
+    public FollowPostResponse follow(Long userId, Long followerId) {
+        // 자기 자신을 팔로우할 수 없음
+        if (followerId.equals(userId)) {
+            throw BadRequestException.selfFollow();
+        }
 
         // 팔로우 대상 조회
         User following = userRepository.findById(userId)
+                .filter(user -> user.getDeletedAt() == null)
                 .orElseThrow(() -> NotFoundException.user(userId));
 
-        // 자기 자신을 팔로우할 수 없음
-        if (follower.getId().equals(following.getId())) {
-            throw BadRequestException.selfFollow();
-        }
+        // 현재 로그인한 사용자 (탈퇴 처리된 계정의 남은 세션/토큰이면 401)
+        User follower = findActiveUser(followerId);
 
         // 이미 팔로우 중인지 확인
-        if (followRepository.existsByFollowerAndFollowing(follower, following)) {
+        if (isFollowing(follower, following)) {
             throw DuplicateException.following();
         }
 
-        // 팔로우 생성
+        // 카운터 먼저 갱신: 두 사용자 행의 X락을 FK 검사(S락)보다 먼저 잡아 락 승격 데드락 방지
+        updateFollowCounts(follower, following, 1);
+
+        // 팔로우 생성 (그래프 반영 직전의 동시 요청은 unique 제약으로 걸러냄)
         Follow follow = Follow.create(follower, following);
-        followRepository.save(follow);
+        try {
+            followRepository.save(follow);
+        } catch (DataIntegrityViolationException e) {
+            throw DuplicateException.following();
+        }
+
+        AfterCommit.run(() -> {
+            followGraph.add(followerId, userId);
+            suggestIndex.onFollowerCountChanged(userId, 1);
+        });
+        feedService.onFollowChanged(followerId);
+        followSuggestionService.evict(followerId);
 
         return FollowPostResponse.from(following);
     }
@@ -62,13 +93,12 @@ public class FollowService {
      * - 현재 로그인한 사용자가 특정 사용자를 언팔로우
      */
     @Transactional
-    public FollowDeleteResponse unfollow(Long userId, String email) {
-        // 현재 로그인한 사용자 조회
-        User follower = userRepository.findByEmail(email)
-                .orElseThrow(() -> NotFoundException.user(email));
+    public FollowDeleteResponse unfollow(Long userId, Long followerId) {
+        User follower = findActiveUser(followerId);
 
         // 언팔로우 대상 조회
         User following = userRepository.findById(userId)
+                .filter(user -> user.getDeletedAt() == null)
                 .orElseThrow(() -> NotFoundException.user(userId));
 
         // 팔로우 관계 조회
@@ -76,18 +106,32 @@ public class FollowService {
                 .orElseThrow(NotFoundException::follow);
 
         // 팔로우 삭제
+        updateFollowCounts(follower, following, -1);
         followRepository.delete(follow);
 
+        AfterCommit.run(() -> {
+            followGraph.remove(followerId, userId);
+            suggestIndex.onFollowerCountChanged(userId, -1);
+        });
+        feedService.onFollowChanged(followerId);
+        followSuggestionService.evict(followerId);
+
         return FollowDeleteResponse.from(following);
     }
 
     /**
      * 팔로잉 조회
+     * - 팔로우 그래프가 준비되어 있고 정렬 조건이 없으면 count 쿼리 없이 그래프에서 페이징
      */
     public Page<FollowingGetResponse> getFollowings(Long userId, Pageable pageable) {
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
                 .orElseThrow(() -> NotFoundException.user(userId));
 
+        if (canUseGraph(pageable)) {
+            return pageFromGraph(followGraph.followingIds(userId), pageable)
+                    .map(following -> FollowingGetResponse.of(following, true));
+        }
+
         return followRepository.findByFollower(user, pageable)
                 .map(follow ->
                         FollowingGetResponse.of(
@@ -101,16 +145,74 @@ public class FollowService {
      * 팔로워 조회
      */
     public Page<FollowerGetResponse> getFollowers(Long userId, Pageable pageable) {
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
                 .orElseThrow(() -> NotFoundException.user(userId));
 
+        if (canUseGraph(pageable)) {
+            return pageFromGraph(followGraph.followerIds(userId), pageable)
+                    .map(follower -> FollowerGetResponse.of(
+                            follower, followGraph.isFollowing(userId, follower.getId())));
+        }
+
         return followRepository.findByFollowing(user, pageable)
                 .map(follow -> {
                     User follower = follow.getFollower();
-                    boolean isFollowing =
-                            followRepository.existsByFollowerAndFollowing(user, follower);
+                    boolean isFollowing = isFollowing(user, follower);
 
                     return FollowerGetResponse.of(follower, isFollowing);
                 });
     }
+
+    // === Helper Methods ===
+
+    /**
+     * 팔로워/팔로잉 수 증감
+     * - 동시 팔로우 간 데드락을 피하기 위해 항상 userId 오름차순으로 행을 잠금
+     * - 벌크 UPDATE 대신 엔티티를 바꿔 2차 캐시에서 두 사용자 항목만 갱신되게 함
+     */
+    private void updateFollowCounts(User follower, User following, int delta) {
+        boolean followerFirst = follower.getId() < following.getId();
+        userRepository.lockForUpdate(followerFirst ? follower : following);
+        userRepository.lockForUpdate(followerFirst ? following : follower);
+
+        follower.changeFollowingCount(delta);
+        following.changeFollowerCount(delta);
+    }
+
+    private boolean isFollowing(User follower, User following) {
+        if (followGraph.isReady()) {
+            return followGraph.isFollowing(follower.getId(), following.getId());
+        }
+        return followRepository.existsByFollowerAndFollowing(follower, following);
+    }
+
+    private boolean canUseGraph(Pageable pageable) {
+        return followGraph.isReady() && pageable.isPaged() && pageable.getSort().isUnsorted();
+    }
+
+    /**
+     * 그래프의 ID 배열을 잘라 한 페이지만 사용자 조회 (순서: userId 오름차순)
+     */
+    private Page<User> pageFromGraph(long[] ids, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), ids.length);
+        int to = Math.min(from + pageable.getPageSize(), ids.length);
+        List<Long> pageIds = Arrays.stream(ids, from, to).boxed().toList();
+
+        Map<Long, User> users = userRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<User> content = pageIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, pageable, ids.length);
+    }
+
+    // 쓰기 경로의 사용자 확인은 2차 캐시(users)로 (팔로우/언팔로우마다 사용자 SELECT 없음)
+    private User findActiveUser(Long userId) {
+        return userRepository.findById(userId)
+                .filter(user -> user.getDeletedAt() == null)
+                .orElseThrow(UnauthorizedException::loginRequired);
+    }
 }
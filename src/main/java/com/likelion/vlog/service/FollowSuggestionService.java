@@ -0,0 +1,186 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.cache.AfterCommit;
+import com.likelion.vlog.cache.FollowGraph;
+import com.likelion.vlog.dto.follows.FollowSuggestionGetResponse;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.repository.FollowRepository;
+import com.likelion.vlog.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로우 추천 (2-hop 탐색)
+ * - 내가 팔로우하는 사람들이 많이 팔로우하는 사용자를 겹치는 수 순으로 추천
+ * - 팔로잉이 많은 사용자도 빠르도록 1-hop은 최대 maxBreadth명, 2-hop은 1인당 maxFanout명까지만 사용
+ *   (그래프는 임의 위치부터, DB 집계는 최근 팔로우부터)
+ * - 결과는 사용자별로 캐시하고 follow/unfollow 시 무효화
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FollowSuggestionService {
+
+    private static final int MAX_SIZE = 50;
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final FollowGraph followGraph;
+
+    private final Map<Long, CachedSuggestions> cache = new ConcurrentHashMap<>();
+
+    @Value("${vlog.follow-suggestion.max-breadth:200}")
+    private int maxBreadth;
+
+    @Value("${vlog.follow-suggestion.max-fanout:500}")
+    private int maxFanout;
+
+    @Value("${vlog.follow-suggestion.cache-ttl-seconds:600}")
+    private long cacheTtlSeconds;
+
+    @Value("${vlog.follow-suggestion.cache-max-users:10000}")
+    private int cacheMaxUsers;
+
+    public List<FollowSuggestionGetResponse> getSuggestions(Long userId, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+
+        // 캐시는 항상 상위 MAX_SIZE개를 계산해 두고 요청 크기만큼 잘라서 반환
+        CachedSuggestions cached = cache.get(userId);
+        if (cached == null || cached.isExpired()) {
+            cached = new CachedSuggestions(compute(userId, MAX_SIZE),
+                    System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(cacheTtlSeconds));
+            store(userId, cached);
+        }
+
+        List<FollowSuggestionGetResponse> suggestions = cached.suggestions();
+        return suggestions.size() > limit ? suggestions.subList(0, limit) : suggestions;
+    }
+
+    /**
+     * follow/unfollow 후 추천 캐시 무효화
+     */
+    public void evict(Long userId) {
+        AfterCommit.run(() -> cache.remove(userId));
+    }
+
+    // === Helper Methods ===
+
+    private List<FollowSuggestionGetResponse> compute(Long userId, int limit) {
+        Map<Long, Long> scores = followGraph.isReady()
+                ? scoreFromGraph(userId, limit)
+                : scoreFromDatabase(userId, limit);
+        if (scores.isEmpty()) {
+            return List.of();
+        }
+
+        // 탈퇴 처리 중인 사용자는 정리 전까지 팔로우 관계가 남아 있으므로 여기서 제외
+        Map<Long, User> users = userRepository.findAllById(scores.keySet()).stream()
+                .filter(user -> user.getDeletedAt() == null)
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return scores.entrySet().stream()
+                .filter(entry -> users.containsKey(entry.getKey()))
+                .map(entry -> FollowSuggestionGetResponse.of(users.get(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * 인메모리 그래프 탐색
+     * - 후보별 카운트 후 크기 limit인 최소 힙으로 상위 limit개만 유지
+     */
+    private Map<Long, Long> scoreFromGraph(Long userId, int limit) {
+        long[] mine = followGraph.followingIds(userId);
+        Map<Long, long[]> counts = new HashMap<>();
+
+        for (long neighbor : sample(mine, maxBreadth)) {
+            long[] theirs = followGraph.followingIds(neighbor);
+            // 팔로잉이 많은 이웃은 임의 위치부터 maxFanout개만 (원형으로) 본다
+            int span = Math.min(theirs.length, maxFanout);
+            int offset = theirs.length > maxFanout ? ThreadLocalRandom.current().nextInt(theirs.length) : 0;
+            for (int i = 0; i < span; i++) {
+                long candidate = theirs[(offset + i) % theirs.length];
+                if (candidate == userId || Arrays.binarySearch(mine, candidate) >= 0) {
+                    continue;
+                }
+                counts.computeIfAbsent(candidate, k -> new long[1])[0]++;
+            }
+        }
+
+        PriorityQueue<Map.Entry<Long, long[]>> heap =
+                new PriorityQueue<>(Comparator.comparingLong((Map.Entry<Long, long[]> e) -> e.getValue()[0]));
+        for (Map.Entry<Long, long[]> entry : counts.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<Long, long[]>> top = new ArrayList<>(heap);
+        top.sort(Comparator.comparingLong((Map.Entry<Long, long[]> e) -> e.getValue()[0]).reversed());
+
+        Map<Long, Long> scores = new LinkedHashMap<>();
+        top.forEach(entry -> scores.put(entry.getKey(), entry.getValue()[0]));
+        return scores;
+    }
+
+    /**
+     * DB 집계 (그래프 미사용 시)
+     * - 1-hop 표본을 뽑은 뒤 GROUP BY 한 번으로 상위 limit개 (이웃별 maxFanout 상한은 쿼리에서 적용)
+     */
+    private Map<Long, Long> scoreFromDatabase(Long userId, int limit) {
+        long[] mine = followRepository.findFollowingIds(userId).stream().mapToLong(Long::longValue).toArray();
+        if (mine.length == 0) {
+            return Map.of();
+        }
+        List<Long> sampled = Arrays.stream(sample(mine, maxBreadth)).boxed().toList();
+
+        Map<Long, Long> scores = new LinkedHashMap<>();
+        for (Object[] row : followRepository.countSecondDegree(userId, sampled, maxFanout,
+                PageRequest.of(0, limit))) {
+            scores.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return scores;
+    }
+
+    // 최대 n개 무작위 표본 (부분 Fisher-Yates)
+    private long[] sample(long[] ids, int n) {
+        if (ids.length <= n) {
+            return ids;
+        }
+        long[] copy = ids.clone();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < n; i++) {
+            int j = i + random.nextInt(copy.length - i);
+            long tmp = copy[i];
+            copy[i] = copy[j];
+            copy[j] = tmp;
+        }
+        return Arrays.copyOf(copy, n);
+    }
+
+    private void store(Long userId, CachedSuggestions suggestions) {
+        if (cache.size() >= cacheMaxUsers) {
+            cache.values().removeIf(CachedSuggestions::isExpired);
+            if (cache.size() >= cacheMaxUsers) {
+                return;
+            }
+        }
+        cache.put(userId, suggestions);
+    }
+
+    private record CachedSuggestions(List<FollowSuggestionGetResponse> suggestions, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.likelion.vlog.entity.Post;
 import com.likelion.vlog.entity.User;
 import com.likelion.vlog.exception.DuplicateException;
 import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.exception.UnauthorizedException;
 import com.likelion.vlog.repository.LikeRepository;
 import com.likelion.vlog.repository.PostRepository;
 import com.likelion.vlog.repository.UserRepository;
@@ -23,18 +24,19 @@ public class LikeService {
     private final PostRepository postRepository;
 
     // 좋아요 추가
-    public LikeResponse addLike(String email, Long postId) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> NotFoundException.user(email));
-
+    public LikeResponse addLike(Long userId, Long postId) {
         // 중복 체크
-        if (likeRepository.existsByUserIdAndPostId(user.getId(), postId)) {
+        if (likeRepository.existsByUserIdAndPostId(userId, postId)) {
             throw DuplicateException.like();
         }
 
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findByIdAndDeletedAtIsNull(postId)
                 .orElseThrow(() -> NotFoundException.post(postId));
 
+        // 탈퇴 처리된 계정의 남은 세션/토큰으로는 좋아요 불가
+        User user = userRepository.findById(userId)
+                .filter(found -> found.getDeletedAt() == null)
+                .orElseThrow(UnauthorizedException::loginRequired);
         Like like = Like.from(user, post);
         likeRepository.save(like);
 
@@ -42,18 +44,15 @@ public class LikeService {
         postRepository.incrementLikeCount(postId);
 
         // 갱신된 Post 조회하여 likeCount 반환
-        Post updatedPost = postRepository.findById(postId)
+        Post updatedPost = postRepository.findByIdAndDeletedAtIsNull(postId)
                 .orElseThrow(() -> NotFoundException.post(postId));
 
         return LikeResponse.from(updatedPost.getLikeCount(),true);
     }
 
     // 좋아요 삭제
-    public LikeResponse removeLike(String email, Long postId) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> NotFoundException.user(email));
-
-        Like like = likeRepository.findByUserIdAndPostId(user.getId(), postId)
+    public LikeResponse removeLike(Long userId, Long postId) {
+        Like like = likeRepository.findByUserIdAndPostId(userId, postId)
                 .orElseThrow(NotFoundException::like);
 
         likeRepository.delete(like);
@@ -62,7 +61,7 @@ public class LikeService {
         postRepository.decrementLikeCount(postId);
 
         // 갱신된 Post 조회하여 likeCount 반환
-        Post updatedPost = postRepository.findById(postId)
+        Post updatedPost = postRepository.findByIdAndDeletedAtIsNull(postId)
                 .orElseThrow(() -> NotFoundException.post(postId));
 
         return LikeResponse.from(updatedPost.getLikeCount(), false);
@@ -70,24 +69,20 @@ public class LikeService {
 
     // 좋아요 정보 조회 (로그인 / 비로그인 모두 허용)
     @Transactional(readOnly = true)
-    public LikeResponse getLikeInfo(String email, Long postId) {
+    public LikeResponse getLikeInfo(Long userId, Long postId) {
 
         // 1. 전체 좋아요 수 (항상 조회)
-        Integer count = postRepository.findById(postId)
+        Integer count = postRepository.findByIdAndDeletedAtIsNull(postId)
                 .map(Post::getLikeCount)
                 .orElseThrow(() -> NotFoundException.post(postId));
 
         // 2. 비로그인 사용자
-        if (email == null) {
+        if (userId == null) {
             return LikeResponse.from(count, false);
         }
 
         // 3. 로그인 사용자
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> NotFoundException.user(email));
-
-
-        boolean checkLike = likeRepository.existsByUserIdAndPostId(user.getId(), postId);
+        boolean checkLike = likeRepository.existsByUserIdAndPostId(userId, postId);
         return LikeResponse.from(count, checkLike);
     }
 }
\ No newline at end of file
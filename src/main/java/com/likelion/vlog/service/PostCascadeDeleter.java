@@ -0,0 +1,44 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.repository.CommentRepository;
+import com.likelion.vlog.repository.LikeRepository;
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.TagMapRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 게시글과 딸린 데이터 일괄 삭제
+ * - 파생 deleteAllBy...는 행을 모두 읽어 엔티티마다 DELETE를 보내므로, post_id 조건의 벌크 DELETE를 테이블당 한 번만 실행
+ * - FK 순서: 답글 → 댓글 → 좋아요 → 태그 매핑 → 게시글
+ * - 영속성 컨텍스트를 거치지 않으므로 호출한 트랜잭션에서 삭제된 엔티티를 다시 사용하지 않아야 함
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class PostCascadeDeleter {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final TagMapRepository tagMapRepository;
+
+    public void delete(Long postId) {
+        delete(List.of(postId));
+    }
+
+    public void delete(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        commentRepository.deleteRepliesByPostIdIn(postIds);
+        commentRepository.deleteAllByPostIdIn(postIds);
+        likeRepository.deleteAllByPostIdIn(postIds);
+        tagMapRepository.deleteAllByPostIdIn(postIds);
+        postRepository.deleteAllByIdInBatch(postIds);
+    }
+}
@@ -0,0 +1,64 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 표시된 게시글 실제 삭제 배치
+ * - 게시글 삭제 요청은 deleted_at만 기록하므로 인기 글이라도 작성자를 기다리게 하지 않음
+ * - 트래픽이 적은 새벽 시간대에 작은 배치 단위로 PostCascadeDeleter 호출, 배치마다 트랜잭션 분리
+ * - 한 번 실행에 maxBatches까지만 처리하고 나머지는 다음 실행으로 넘김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostReaper {
+
+    private final PostRepository postRepository;
+    private final PostCascadeDeleter postCascadeDeleter;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${vlog.post-reaper.batch-size:50}")
+    private int batchSize;
+
+    @Value("${vlog.post-reaper.max-batches:200}")
+    private int maxBatches;
+
+    // 삭제 직후 진행 중인 요청(좋아요, 댓글 등)이 끝날 여유
+    @Value("${vlog.post-reaper.grace-period:10m}")
+    private Duration gracePeriod;
+
+    @Scheduled(cron = "${vlog.post-reaper.cron:0 */10 3-5 * * *}")
+    public void reap() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        LocalDateTime before = LocalDateTime.now().minus(gracePeriod);
+        int reaped = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer rows = tx.execute(status -> {
+                List<Long> postIds = postRepository.findIdsDeletedBefore(before, PageRequest.of(0, batchSize));
+                postCascadeDeleter.delete(postIds);
+                return postIds.size();
+            });
+            if (rows == null || rows == 0) {
+                break;
+            }
+            reaped += rows;
+        }
+
+        if (reaped > 0) {
+            log.info("Deleted posts reaped: posts={}", reaped);
+        }
+    }
+}
@@ -1,18 +1,35 @@
 package com.likelion.vlog.service;
 
+import com.likelion.vlog.cache.TagDictionary;
+import com.likelion.vlog.cache.TagPostings;
+import com.likelion.vlog.cache.TagStatistics;
+import com.likelion.vlog.config.ParallelQueryExecutor;
+import com.likelion.vlog.config.ReplicaRoutingDataSource;
 import com.likelion.vlog.dto.comments.CommentWithRepliesGetResponse;
 import com.likelion.vlog.dto.posts.*;
+import com.likelion.vlog.dto.tags.TagCountGetResponse;
+import com.likelion.vlog.enums.TagSortField;
 import com.likelion.vlog.entity.*;
 import com.likelion.vlog.exception.ForbiddenException;
 import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.exception.UnauthorizedException;
 import com.likelion.vlog.repository.*;
+import com.likelion.vlog.security.AuthUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
 /**
  * 게시글 비즈니스 로직
@@ -23,13 +40,26 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final int FACET_SIZE = 20;
+
     private final PostRepository postRepository;
-    private final TagRepository tagRepository;
     private final TagMapRepository tagMapRepository;
-    private final UserRepository userRepository;
+    private final TagJdbcRepository tagJdbcRepository;
+    private final TagDictionary tagDictionary;
+    private final TagIndexUpdater tagIndexUpdater;
     private final BlogRepository blogRepository;
+    private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final FeedService feedService;
     private final LikeRepository likeRepository;
+    private final ParallelQueryExecutor parallelQueryExecutor;
+    private final TagPostings tagPostings;
+    private final TagStatistics tagStatistics;
+    private final TagRepository tagRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${vlog.post-facets.max-results:50000}")
+    private int facetMaxResults;
 
     /**
      * 게시글 목록 조회 (페이징 + 필터링)
@@ -46,9 +76,9 @@ public class PostService {
         } else if (tag != null) {
             postPage = postRepository.findAllByTagName(tag, pageable);
         } else if (blogId != null) {
-            postPage = postRepository.findAllByBlogId(blogId, pageable);
+            postPage = postRepository.findAllByBlogIdAndDeletedAtIsNull(blogId, pageable);
         } else {
-            postPage = postRepository.findAll(pageable);
+            postPage = postRepository.findAllByDeletedAtIsNull(pageable);
         }
 
         List<Post> posts = postPage.getContent();
@@ -61,55 +91,133 @@ public class PostService {
         return PageResponse.of(postPage, content);
     }
 
+    /**
+     * 게시글 검색
+     * - 총 건수 쿼리는 먼저 별도 읽기 전용 트랜잭션(커넥션)에 띄우고, 호출 스레드는 그동안 목록 조회 + DTO 변환
+     * - 메서드 자체는 트랜잭션 없이 실행: 클래스 기본 트랜잭션 안에서는 ParallelQueryExecutor가 차례로 실행하므로
+     *   목록/패싯은 각자 짧은 읽기 전용 트랜잭션에서 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PageResponse<PostListGetResponse> getPosts(PostGetRequest request) {
-        Page<Post> postPage = postRepository.search(request);
-        List<Post> posts = postPage.getContent();
-        List<PostListGetResponse> content = posts.stream()
+        long deadline = parallelQueryExecutor.deadline();
+        Future<Long> count = parallelQueryExecutor.submit(() -> postRepository.searchCount(request));
+
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        List<PostListGetResponse> content = readOnlyTx.execute(status -> postRepository.searchContent(request)
+                .stream()
                 .map(PostListGetResponse::of)
-                .toList();
-        return PageResponse.of(postPage, content);
+                .toList());
+
+        long total = parallelQueryExecutor.join(count, deadline);
+        Page<PostListGetResponse> postPage =
+                new PageImpl<>(content, PageRequest.of(request.getPage(), request.getSize()), total);
+        if (!request.isFacets()) {
+            return PageResponse.of(postPage, content);
+        }
+        return PageResponse.of(postPage, content, readOnlyTx.execute(status -> facets(request, total)));
     }
 
     /**
-     * 게시글 상세 조회
-     * - 댓글/대댓글 포함
-     * - 조회수 증가
+     * 검색 결과 안의 태그별 게시글 수 (GROUP BY 없음)
+     * - 필터가 없으면 결과가 곧 전체 공개 게시글이므로 TagStatistics 값을 그대로 사용
+     * - 필터가 있으면 결과 ID만 조회해 TagPostings의 태그별 목록과 교차
+     * - 결과가 너무 크거나 역색인이 아직 준비되지 않았으면 null (응답에서 생략)
      */
-    @Transactional
-    public PostGetResponse getPost(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> NotFoundException.post(postId));
-
-        // 조회수 증가
-        postRepository.incrementViewCount(postId);
-
-        // 조회수 증가 후 다시 조회하여 최신 조회수 반영
-        post = postRepository.findById(postId)
-                .orElseThrow(() -> NotFoundException.post(postId));
+    private List<TagCountGetResponse> facets(PostGetRequest request, long total) {
+        if (!request.hasFilter()) {
+            return tagStatistics.top(TagSortField.POPULAR, null, FACET_SIZE).stream()
+                    .map(tag -> TagCountGetResponse.of(tag.title(), tag.postCount()))
+                    .toList();
+        }
+        if (total == 0) {
+            return List.of();
+        }
+        if (total > facetMaxResults || !tagPostings.isReady()) {
+            return null;
+        }
 
-        List<String> tags = getTagNames(post);
+        List<Long> resultIds = postRepository.searchIds(request, facetMaxResults);
+        List<TagPostings.Facet> facets = tagPostings.facets(resultIds, FACET_SIZE);
+
+        // 제목은 메모리에서, 모르는 태그만 한 번에 조회
+        Map<Long, String> titles = new HashMap<>();
+        List<Long> unknown = new ArrayList<>();
+        for (TagPostings.Facet facet : facets) {
+            String title = tagStatistics.titleOf(facet.tagId());
+            if (title != null) {
+                titles.put(facet.tagId(), title);
+            } else {
+                unknown.add(facet.tagId());
+            }
+        }
+        if (!unknown.isEmpty()) {
+            tagRepository.findAllById(unknown).forEach(tag -> titles.put(tag.getId(), tag.getTitle()));
+        }
 
-        // 댓글 조회 (대댓글 포함)
-        List<CommentWithRepliesGetResponse> comments = commentRepository.findAllByPostWithChildren(post)
-                .stream()
-                .map(CommentWithRepliesGetResponse::from)
+        return facets.stream()
+                .filter(facet -> titles.containsKey(facet.tagId()))
+                .map(facet -> TagCountGetResponse.of(titles.get(facet.tagId()), facet.count()))
                 .toList();
+    }
+
+    /**
+     * 게시글 상세 조회
+     * - 댓글/대댓글, 조회자 좋아요 여부 포함
+     * - 조회수 증가
+     * - 태그, 댓글 트리, 좋아요 여부는 서로 독립이므로 각자 읽기 전용 트랜잭션에서 동시에 조회하고
+     *   호출 스레드는 그동안 조회수 증가 + 게시글/작성자 조회, 모두 같은 마감 시각까지 기다림
+     * - 메서드 자체는 트랜잭션 없이 실행: 호출 스레드는 커넥션 없이 작업을 띄우고,
+     *   조회수 증가 + 게시글 조회만 짧은 트랜잭션으로 끝낸 뒤(커넥션 반납) 작업 결과를 기다림
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostGetResponse getPost(Long postId, Long viewerId) {
+        long deadline = parallelQueryExecutor.deadline();
+
+        Future<List<String>> tags = parallelQueryExecutor.submit(() -> tagMapRepository.findTitlesByPostId(postId));
+        Future<List<CommentWithRepliesGetResponse>> comments = parallelQueryExecutor.submit(() ->
+                commentRepository.findAllByPostWithChildren(postRepository.getReferenceById(postId))
+                        .stream()
+                        .map(CommentWithRepliesGetResponse::from)
+                        .toList());
+        Future<Boolean> liked = viewerId == null
+                ? CompletableFuture.completedFuture(false)
+                : parallelQueryExecutor.submit(() -> likeRepository.existsByUserIdAndPostId(viewerId, postId));
+
+        // 조회수 증가 후 조회하여 최신 조회수 반영 (없는 게시글이면 UPDATE 대상도 없음)
+        // 조회만 한 사용자를 primary에 고정하지 않도록 non-sticky로 표시한 쓰기 트랜잭션으로 실행
+        TransactionTemplate viewTx = new TransactionTemplate(transactionManager);
+        Post post = viewTx.execute(status -> {
+            ReplicaRoutingDataSource.markNonSticky();
+            postRepository.incrementViewCount(postId);
+            return postRepository.findWithAuthorById(postId).orElse(null);
+        });
+        if (post == null) {
+            tags.cancel(true);
+            comments.cancel(true);
+            liked.cancel(true);
+            throw NotFoundException.post(postId);
+        }
 
-        return PostGetResponse.of(post, tags, comments);
+        return PostGetResponse.of(post,
+                parallelQueryExecutor.join(tags, deadline),
+                parallelQueryExecutor.join(comments, deadline),
+                parallelQueryExecutor.join(liked, deadline));
     }
 
     /**
      * 게시글 작성
-     * - User -> Blog 조회 후 Post 생성
+     * - 로그인 시 담아 둔 blogId로 Blog를 조회 없이 참조해 Post 생성
+     * - 탈퇴 처리된 계정의 남은 세션/토큰이면 401 (공개 상태의 게시글이 새로 생기지 않도록)
+     * - 작성자는 2차 캐시(users)에서 읽어 확인하고, 응답 닉네임도 세션 값이 아닌 엔티티 값을 사용
      * - 태그가 있으면 자동 생성/매핑
      */
     @Transactional
-    public PostGetResponse createPost(PostCreatePostRequest request, String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> NotFoundException.user(email));
-
-        Blog blog = blogRepository.findByUser(user)
-                .orElseThrow(() -> NotFoundException.blog(user.getId()));
+    public PostGetResponse createPost(PostCreatePostRequest request, AuthUser authUser) {
+        User user = userRepository.findById(authUser.getUserId())
+                .filter(found -> found.getDeletedAt() == null)
+                .orElseThrow(UnauthorizedException::loginRequired);
+        Blog blog = blogRepository.getReferenceById(authUser.getBlogId());
 
         // Post 생성 (정적 팩토리 메서드 사용)
         Post post = Post.of(request.getTitle(), request.getContent(), blog);
@@ -118,89 +226,136 @@ public class PostService {
         // 태그 저장 (없는 태그는 새로 생성)
         List<String> tagNames = saveTags(savedPost, request.getTags());
 
-        return PostGetResponse.of(savedPost, tagNames);
+        // 팔로워 피드에 반영
+        feedService.onPostCreated(authUser.getUserId(), savedPost);
+
+        return PostGetResponse.of(savedPost, tagNames, AuthorResponse.from(user));
     }
 
     /**
      * 게시글 수정
      * - 작성자 본인만 수정 가능 (권한 검증)
-     * - 기존 태그 삭제 후 새로 저장
+     * - 태그는 기존 매핑과 비교해 바뀐 것만 추가/삭제 (태그가 그대로면 tag_maps 쓰기 없음)
      */
     @Transactional
-    public PostGetResponse updatePost(Long postId, PostUpdatePutRequest request, String email) {
-        Post post = postRepository.findById(postId)
+    public PostGetResponse updatePost(Long postId, PostUpdatePutRequest request, AuthUser authUser) {
+        Post post = postRepository.findByIdAndDeletedAtIsNull(postId)
                 .orElseThrow(() -> NotFoundException.post(postId));
 
-        // 권한 검증: Post -> Blog -> User 경로로 작성자 확인
-        if (!post.getBlog().getUser().getEmail().equals(email)) {
+        // 권한 검증: 내 블로그의 게시글인지 (Blog 프록시의 ID만 비교하므로 추가 조회 없음)
+        if (!post.getBlog().getId().equals(authUser.getBlogId())) {
             throw ForbiddenException.postUpdate();
         }
 
         post.update(request.getTitle(), request.getContent());
 
-        // 태그 업데이트: 기존 매핑 삭제 후 새로 저장
-        tagMapRepository.deleteAllByPost(post);
-        List<String> tagNames = saveTags(post, request.getTags());
+        List<String> tagNames = updateTags(post, request.getTags());
 
-        return PostGetResponse.of(post, tagNames);
+        return PostGetResponse.of(post, tagNames, AuthorResponse.from(post.getBlog().getUser()));
     }
 
     /**
      * 게시글 삭제
      * - 작성자 본인만 삭제 가능
-     * - 태그 매핑도 함께 삭제
+     * - 삭제 표시만 하고 즉시 응답, 이후 모든 조회에서 제외
+     * - 댓글, 좋아요, 태그 매핑과 게시글 행은 PostReaper가 한가한 시간대에 실제 삭제
      */
     @Transactional
-    public void deletePost(Long postId, String email) {
-        Post post = postRepository.findById(postId)
+    public void deletePost(Long postId, Long blogId) {
+        Post post = postRepository.findByIdAndDeletedAtIsNull(postId)
                 .orElseThrow(() -> NotFoundException.post(postId));
 
-        if (!post.getBlog().getUser().getEmail().equals(email)) {
+        if (!post.getBlog().getId().equals(blogId)) {
             throw ForbiddenException.postDelete();
         }
 
-        // 연관 데이터 먼저 삭제 (FK 제약조건 때문)
-        commentRepository.deleteAllByPostId(postId);
-        likeRepository.deleteAllByPostId(postId);
-        tagMapRepository.deleteAllByPostId(postId);
+        post.markDeleted();
+        feedService.onPostDeleted(post);
 
-        // Post 삭제
-        postRepository.delete(post);
-    }
-
-    /**
-     * Post의 태그 이름 목록 추출
-     * - Post -> TagMap -> Tag 경로로 조회
-     */
-    private List<String> getTagNames(Post post) {
-        return post.getTagMapList().stream()
-                .map(tagMap -> tagMap.getTag().getTitle())
-                .toList();
+        // 태그 인덱스에서 제외 (매핑 행은 PostReaper가 삭제)
+        tagIndexUpdater.onPostTagsChanged(postId, findTags(postId), Map.of());
     }
 
     /**
      * 태그 저장 (없으면 생성)
-     * - 이미 존재하는 태그면 재사용
-     * - 없는 태그면 새로 생성
-     * - Post-Tag 매핑(TagMap) 생성
+     * - tag_id는 TagDictionary에서 확보 (사전에 없는 태그만 한 번에 생성/조회)
+     * - Post-Tag 매핑(TagMap)은 여러 행을 INSERT 한 문장으로 생성
+     * - 같은 태그가 중복 요청되면 한 번만 매핑
      */
     private List<String> saveTags(Post post, List<String> tagNames) {
         if (tagNames == null || tagNames.isEmpty()) {
             return List.of();
         }
 
-        return tagNames.stream()
-                .map(tagName -> {
-                    // 태그 조회 또는 생성 (정적 팩토리 메서드 사용)
-                    Tag tag = tagRepository.findByTitle(tagName)
-                            .orElseGet(() -> tagRepository.save(Tag.of(tagName)));
+        Map<String, Long> tagIds = tagDictionary.resolve(new LinkedHashSet<>(tagNames));
+        Map<Long, String> tags = byTagId(tagIds);
+        tagJdbcRepository.insertTagMaps(post.getId(), tags.keySet());
+        tagIndexUpdater.onPostTagsChanged(post.getId(), Map.of(), tags);
 
-                    // Post-Tag 매핑 생성 (정적 팩토리 메서드 사용)
-                    TagMap tagMap = TagMap.of(post, tag);
-                    tagMapRepository.save(tagMap);
+        return List.copyOf(tagIds.keySet());
+    }
 
-                    return tagName;
-                })
+    /**
+     * 태그 수정 (차집합만 반영)
+     * - 제목으로 먼저 비교해 새로 붙은 태그만 ID를 확보
+     * - 빠진 태그의 매핑은 한 문장으로 삭제, 새 태그 매핑은 한 문장으로 추가
+     * - 대소문자만 바뀌어 같은 tag_id로 확인되는 경우는 삭제/추가 모두에서 제외
+     */
+    private List<String> updateTags(Post post, List<String> tagNames) {
+        Set<String> requested = tagNames == null ? Set.of() : new LinkedHashSet<>(tagNames);
+
+        Map<Long, String> before = findTags(post.getId());
+        Map<String, Long> existing = new HashMap<>();
+        before.forEach((tagId, title) -> existing.put(title, tagId));
+
+        Set<Long> removedIds = new HashSet<>();
+        existing.forEach((title, tagId) -> {
+            if (!requested.contains(title)) {
+                removedIds.add(tagId);
+            }
+        });
+
+        List<String> added = requested.stream()
+                .filter(title -> !existing.containsKey(title))
                 .toList();
+        Map<Long, String> addedTags = byTagId(tagDictionary.resolve(added));
+
+        Set<Long> unchanged = new HashSet<>(addedTags.keySet());
+        unchanged.retainAll(removedIds);
+        addedTags.keySet().removeAll(unchanged);
+        addedTags.keySet().removeAll(existing.values());
+        removedIds.removeAll(unchanged);
+
+        if (!removedIds.isEmpty()) {
+            tagMapRepository.deleteByPostIdAndTagIdIn(post.getId(), removedIds);
+        }
+        tagJdbcRepository.insertTagMaps(post.getId(), addedTags.keySet());
+
+        Map<Long, String> after = new HashMap<>(before);
+        after.keySet().removeAll(removedIds);
+        after.putAll(addedTags);
+        tagIndexUpdater.onPostTagsChanged(post.getId(), before, after);
+
+        return List.copyOf(requested);
+    }
+
+    // 게시글에 현재 붙은 태그 (tag_id → 제목)
+    private Map<Long, String> findTags(Long postId) {
+        Map<Long, String> tags = new HashMap<>();
+        for (Object[] row : tagMapRepository.findTagIdAndTitleByPostId(postId)) {
+            tags.put((Long) row[0], (String) row[1]);
+        }
+        return tags;
+    }
+
+    // 제목 → ID 결과를 ID 기준으로 (대소문자만 다른 제목이 같은 태그로 확인되면 하나로)
+    private static Map<Long, String> byTagId(Map<String, Long> tagIds) {
+        Map<Long, String> tags = new LinkedHashMap<>();
+        tagIds.forEach((title, tagId) -> {
+            if (tagId != null) {
+                tags.putIfAbsent(tagId, title);
+            }
+        });
+        return tags;
     }
 }
\ No newline at end of file
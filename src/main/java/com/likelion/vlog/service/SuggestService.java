@@ -0,0 +1,44 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.cache.PrefixIndex;
+import com.likelion.vlog.cache.SuggestIndex;
+import com.likelion.vlog.dto.suggest.SuggestGetResponse;
+import com.likelion.vlog.dto.suggest.SuggestItemResponse;
+import com.likelion.vlog.enums.SuggestType;
+import com.likelion.vlog.util.HangulUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SuggestService {
+
+    private static final int MAX_SIZE = 20;
+
+    private final SuggestIndex suggestIndex;
+
+    /**
+     * 입력 중인 검색어로 시작하는 태그/닉네임/블로그 제목 (인기순 상위 size개씩)
+     * - 메모리 색인만 조회 (DB 조회 없음)
+     * - type이 없으면 세 종류 모두
+     * - 초성만("ㅅㅍㄹ") 또는 초성이 섞인("스ㅍ") 검색어도 지원
+     */
+    public SuggestGetResponse suggest(String query, SuggestType type, int size) {
+        int limit = Math.max(0, Math.min(size, MAX_SIZE));
+        if (HangulUtils.normalize(query).isEmpty()) {
+            limit = 0;
+        }
+
+        return SuggestGetResponse.builder()
+                .tags(type == null || type == SuggestType.TAG ? toItems(suggestIndex.tags(query, limit)) : List.of())
+                .users(type == null || type == SuggestType.USER ? toItems(suggestIndex.users(query, limit)) : List.of())
+                .blogs(type == null || type == SuggestType.BLOG ? toItems(suggestIndex.blogs(query, limit)) : List.of())
+                .build();
+    }
+
+    private static List<SuggestItemResponse> toItems(List<PrefixIndex.Match> matches) {
+        return matches.stream().map(SuggestItemResponse::from).toList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.cache.AfterCommit;
+import com.likelion.vlog.cache.SuggestIndex;
+import com.likelion.vlog.cache.TagCooccurrence;
+import com.likelion.vlog.cache.TagPostings;
+import com.likelion.vlog.cache.TagStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글의 태그 집합 변경을 인메모리 태그 인덱스에 반영
+ * - 게시글 작성/수정/삭제, 회원 탈퇴에서 공개 게시글 기준 변경 전후 태그(tag_id → 제목)를 넘겨받음
+ * - 태그별 게시글 수(자동완성 가중치 포함)와 태그별 게시글 목록은 차집합만, 동시 출현 행렬은 변경 전 쌍을 빼고 변경 후 쌍을 더함
+ * - 모두 커밋 이후에 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class TagIndexUpdater {
+
+    private final TagStatistics tagStatistics;
+    private final TagCooccurrence tagCooccurrence;
+    private final TagPostings tagPostings;
+    private final SuggestIndex suggestIndex;
+
+    public void onPostTagsChanged(Long postId, Map<Long, String> before, Map<Long, String> after) {
+        if (before.keySet().equals(after.keySet())) {
+            return;
+        }
+        Map<Long, String> removed = new HashMap<>(before);
+        removed.keySet().removeAll(after.keySet());
+        Map<Long, String> added = new HashMap<>(after);
+        added.keySet().removeAll(before.keySet());
+
+        Set<Long> beforeIds = new HashSet<>(before.keySet());
+        Set<Long> afterIds = new HashSet<>(after.keySet());
+
+        AfterCommit.run(() -> {
+            removed.forEach((tagId, title) -> {
+                tagStatistics.decrement(tagId, 1);
+                suggestIndex.onTagPostCountChanged(tagId, title, -1);
+            });
+            added.forEach((tagId, title) -> {
+                tagStatistics.increment(tagId, title);
+                suggestIndex.onTagPostCountChanged(tagId, title, 1);
+            });
+            tagPostings.remove(postId, removed.keySet());
+            tagPostings.add(postId, added.keySet());
+            tagCooccurrence.remove(beforeIds);
+            tagCooccurrence.add(afterIds);
+        });
+    }
+}
@@ -1,19 +1,87 @@
 package com.likelion.vlog.service;
 
+import com.likelion.vlog.cache.TagCooccurrence;
+import com.likelion.vlog.cache.TagDictionary;
+import com.likelion.vlog.cache.TagStatistics;
+import com.likelion.vlog.dto.tags.TagCountGetResponse;
 import com.likelion.vlog.dto.tags.TagGetResponse;
+import com.likelion.vlog.dto.tags.TagListGetRequest;
+import com.likelion.vlog.entity.Tag;
+import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.repository.TagMapRepository;
 import com.likelion.vlog.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @RequiredArgsConstructor
 @Service
 @Transactional(readOnly = true)
 public class TagService {
 
+    private static final int MAX_RELATED_SIZE = 50;
+
     private final TagRepository tagRepository;
+    private final TagMapRepository tagMapRepository;
+    private final TagStatistics tagStatistics;
+    private final TagCooccurrence tagCooccurrence;
+    private final TagDictionary tagDictionary;
 
     public TagGetResponse getTag (String tagName){
         return TagGetResponse.from(tagRepository.findByTitle(tagName).orElse(null));
     }
+
+    /**
+     * 태그 목록 (태그 클라우드)
+     * - 메모리에 유지하는 태그별 게시글 수에서 바로 상위 N개를 고름 (DB 조회 없음)
+     */
+    public List<TagCountGetResponse> getTags(TagListGetRequest request) {
+        return tagStatistics.top(request.getSort(), request.getPrefix(), request.limit()).stream()
+                .map(tag -> TagCountGetResponse.of(tag.title(), tag.postCount()))
+                .toList();
+    }
+
+    /**
+     * 관련 태그: 같은 게시글에 함께 가장 많이 붙은 태그
+     * - 동시 출현 행렬에서 바로 상위 N개 (준비 전에는 tag_maps 집계로 폴백)
+     */
+    public List<TagCountGetResponse> getRelatedTags(String title, int size) {
+        int limit = Math.max(0, Math.min(size, MAX_RELATED_SIZE));
+        Long tagId = findTagId(title);
+
+        List<TagCountGetResponse> related = new ArrayList<>();
+        if (tagCooccurrence.isReady()) {
+            for (TagCooccurrence.Related tag : tagCooccurrence.related(tagId, limit)) {
+                related.add(TagCountGetResponse.of(titleOf(tag.tagId()), tag.count()));
+            }
+        } else if (limit > 0) {
+            for (Object[] row : tagMapRepository.countRelated(tagId, PageRequest.of(0, limit))) {
+                related.add(TagCountGetResponse.of(titleOf((Long) row[0]), ((Long) row[1]).intValue()));
+            }
+        }
+        return related;
+    }
+
+    private Long findTagId(String title) {
+        Long tagId = tagDictionary.find(title);
+        if (tagId != null) {
+            return tagId;
+        }
+        Tag tag = tagRepository.findByTitle(title)
+                .orElseThrow(() -> NotFoundException.tag(title));
+        tagDictionary.remember(title, tag.getId());
+        return tag.getId();
+    }
+
+    private String titleOf(Long tagId) {
+        String title = tagStatistics.titleOf(tagId);
+        if (title != null) {
+            return title;
+        }
+        return tagRepository.findById(tagId).map(Tag::getTitle).orElse(null);
+    }
 }
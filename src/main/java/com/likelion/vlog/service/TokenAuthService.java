@@ -0,0 +1,151 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.cache.AfterCommit;
+import com.likelion.vlog.dto.auth.TokenResponse;
+import com.likelion.vlog.entity.RefreshToken;
+import com.likelion.vlog.entity.RevokedToken;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.exception.UnauthorizedException;
+import com.likelion.vlog.repository.RefreshTokenRepository;
+import com.likelion.vlog.repository.RevokedTokenRepository;
+import com.likelion.vlog.repository.UserRepository;
+import com.likelion.vlog.security.AuthUser;
+import com.likelion.vlog.security.TokenProvider;
+import com.likelion.vlog.security.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * 토큰 인증 모드의 발급/재발급/폐기
+ * - 액세스 토큰: 짧은 수명의 HMAC 서명 토큰 (TokenProvider), 요청마다 DB 조회 없음
+ * - 리프레시 토큰: 무작위 값, 서버에는 해시만 저장하고 재발급 때마다 교체
+ * - 로그아웃한 액세스 토큰은 만료 시각까지 revoked_tokens에 기록
+ * - 로그인 한 번에서 재발급으로 이어진 토큰은 같은 familyId를 가지며, 로그아웃 시 그 리프레시 토큰도 함께 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TokenAuthService {
+
+    private static final String TOKEN_TYPE = "Bearer";
+
+    private final TokenProvider tokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Value("${vlog.auth.refresh-token-ttl:14d}")
+    private Duration refreshTokenTtl;
+
+    /**
+     * 로그인 성공 후 토큰 발급 (새 familyId)
+     */
+    @Transactional
+    public TokenResponse issue(AuthUser authUser) {
+        return issue(authUser, random.nextLong());
+    }
+
+    private TokenResponse issue(AuthUser authUser, long familyId) {
+        TokenProvider.IssuedToken accessToken = tokenProvider.issue(authUser, familyId);
+
+        byte[] raw = new byte[32];
+        random.nextBytes(raw);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+        Instant refreshExpiresAt = Instant.now().plus(refreshTokenTtl);
+
+        User user = userRepository.findById(authUser.getUserId())
+                .filter(found -> found.getDeletedAt() == null)
+                .orElseThrow(UnauthorizedException::loginRequired);
+        refreshTokenRepository.save(RefreshToken.of(user, familyId, hash(refreshToken), refreshExpiresAt));
+
+        return TokenResponse.builder()
+                .tokenType(TOKEN_TYPE)
+                .accessToken(accessToken.token())
+                .accessTokenExpiresAt(accessToken.expiresAt())
+                .refreshToken(refreshToken)
+                .refreshTokenExpiresAt(refreshExpiresAt)
+                .build();
+    }
+
+    /**
+     * 리프레시 토큰으로 재발급
+     * - 사용한 리프레시 토큰은 삭제 (한 번만 사용 가능)
+     * - 닉네임 등이 바뀌었을 수 있으므로 사용자를 다시 조회해 새 토큰에 반영
+     * - 탈퇴 처리된 사용자면 401 (남은 리프레시 토큰으로 다시 로그인 상태가 되지 않도록)
+     */
+    @Transactional
+    public TokenResponse refresh(String refreshToken) {
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(UnauthorizedException::invalidToken);
+        if (stored.isExpired(Instant.now())) {
+            throw UnauthorizedException.invalidToken();
+        }
+        refreshTokenRepository.delete(stored);
+
+        User user = userRepository.findByIdAndDeletedAtIsNull(stored.getUser().getId())
+                .orElseThrow(UnauthorizedException::loginRequired);
+        return issue(AuthUser.from(user), stored.getFamilyId());
+    }
+
+    /**
+     * 로그아웃: 리프레시 토큰 삭제 + 현재 액세스 토큰 폐기
+     * - 둘 다 같은 로그인(familyId)에서 이어진 리프레시 토큰을 모두 삭제
+     * - 리프레시 토큰 없이 액세스 토큰만으로도 호출 가능 (POST /api/v1/auth/logout)
+     */
+    @Transactional
+    public void revoke(String refreshToken, String accessToken) {
+        if (refreshToken != null) {
+            refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                    .ifPresent(stored -> refreshTokenRepository.deleteAllByFamilyId(stored.getFamilyId()));
+        }
+
+        if (accessToken == null) {
+            return;
+        }
+        tokenProvider.parse(accessToken).ifPresent(claims -> {
+            refreshTokenRepository.deleteAllByFamilyId(claims.familyId());
+            revokedTokenRepository.save(RevokedToken.of(claims.tokenId(), claims.expiresAt()));
+            AfterCommit.run(() -> tokenRevocationList.add(claims.tokenId(), claims.expiresAt()));
+        });
+    }
+
+    /**
+     * 만료된 리프레시/폐기 토큰 정리
+     */
+    @Transactional
+    @Scheduled(cron = "${vlog.auth.purge-cron:0 0 * * * *}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int refreshTokens = refreshTokenRepository.deleteExpired(now);
+        int revokedTokens = revokedTokenRepository.deleteExpired(now);
+        if (refreshTokens + revokedTokens > 0) {
+            log.info("Expired tokens purged: refresh={}, revoked={}", refreshTokens, revokedTokens);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.likelion.vlog.service;
 
+import com.likelion.vlog.cache.AfterCommit;
+import com.likelion.vlog.cache.FollowGraph;
+import com.likelion.vlog.cache.SuggestIndex;
 import com.likelion.vlog.dto.users.UserGetResponse;
 import com.likelion.vlog.dto.users.UserUpdateRequest;
 
@@ -8,40 +11,58 @@ import com.likelion.vlog.exception.ForbiddenException;
 import com.likelion.vlog.exception.InvalidCredentialsException;
 import com.likelion.vlog.exception.NotFoundException;
 import com.likelion.vlog.repository.*;
+import com.likelion.vlog.security.DeletedAccounts;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final CommentRepository commentRepository;
-    private final LikeRepository likeRepository;
-    private final FollowRepository followRepository;
-    private final TagMapRepository tagMapRepository;
     private final PostRepository postRepository;
+    private final TagMapRepository tagMapRepository;
+    private final TagIndexUpdater tagIndexUpdater;
+    private final FollowGraph followGraph;
+    private final SuggestIndex suggestIndex;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AuthSessionRepository authSessionRepository;
+    private final DeletedAccounts deletedAccounts;
 
     public UserGetResponse getUser(Long userId){
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
                 .orElseThrow(() -> NotFoundException.user(userId));
         return UserGetResponse.of(user);
     }
 
     @Transactional
-    public UserGetResponse updateUser(Long userId, UserUpdateRequest userUpdateRequest, String email) {
-        User user = userRepository.findById(userId)
+    public UserGetResponse updateUser(Long userId, UserUpdateRequest userUpdateRequest, Long loginUserId) {
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
                 .orElseThrow(() -> NotFoundException.user(userId));
 
         // 권한 검증: 본인만 수정 가능
-        if (!user.getEmail().equals(email)) {
+        if (!user.getId().equals(loginUserId)) {
             throw ForbiddenException.userUpdate();
         }
 
+        String previousNickname = user.getNickname();
         user.upDateInfo(userUpdateRequest, passwordEncoder);
+        if (!previousNickname.equals(user.getNickname())) {
+            String nickname = user.getNickname();
+            AfterCommit.run(() -> suggestIndex.onNicknameChanged(userId, nickname));
+        }
+
+        // 비밀번호가 바뀌면 다른 기기의 로그인 수단 모두 무효화
+        if (userUpdateRequest.getPassword() != null) {
+            refreshTokenRepository.deleteAllByUserId(userId);  // 토큰 인증 모드의 리프레시 토큰
+            authSessionRepository.deleteAllByUserId(userId);   // jdbc 세션 저장소의 로그인 세션
+        }
 
         userRepository.save(user);
         return UserGetResponse.of(user);
@@ -50,21 +71,17 @@ public class UserService {
 
     /**
      * 회원 탈퇴
-     * - 권한 검증 및 비밀번호 확인 후 User 및 모든 연관 데이터 삭제
-     * - 삭제 순서:
-     *   1. User가 직접 작성/생성한 것들 (댓글, 좋아요, 팔로우)
-     *   2. User의 Blog에 속한 Post들의 연관 데이터 (댓글, 좋아요, 태그)
-     *   3. User의 Blog에 속한 Post들
-     *   4. Blog (cascade로 자동 삭제)
-     *   5. User
+     * - 권한 검증 및 비밀번호 확인 후 탈퇴 처리만 하고 즉시 응답
+     * - 로그인 수단(리프레시 토큰, 저장된 세션)은 바로 삭제하고 계정과 게시글을 조회/로그인 대상에서 제외
+     * - 댓글, 좋아요, 팔로우, 게시글 등 연관 데이터와 User/Blog 행은 AccountPurgeJob이 배치로 삭제
      */
     @Transactional
-    public void deleteUser(Long userId, String password, String email) {
-        User user = userRepository.findById(userId)
+    public void deleteUser(Long userId, String password, Long loginUserId) {
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
                 .orElseThrow(() -> NotFoundException.user(userId));
 
         // 권한 검증: 본인만 탈퇴 가능
-        if (!user.getEmail().equals(email)) {
+        if (!user.getId().equals(loginUserId)) {
             throw ForbiddenException.userDelete();
         }
 
@@ -73,25 +90,24 @@ public class UserService {
             throw InvalidCredentialsException.password();
         }
 
-        deleteRelationship(userId);
-
-        // 4-5단계: Blog은 cascade=ALL이므로 User 삭제 시 자동 삭제됨
-        userRepository.delete(user);
-    }
+        user.markDeleted();
 
-
-    private void deleteRelationship(Long userId) {
-        // 1단계: User가 직접 작성/생성한 것들 삭제
-        commentRepository.deleteAllByUserId(userId);           // 내가 쓴 댓글
-        likeRepository.deleteAllByUserId(userId);              // 내가 누른 좋아요
-        followRepository.deleteAllByFollowerId(userId);        // 내가 팔로우한 관계
-        followRepository.deleteAllByFollowingId(userId);       // 나를 팔로우한 관계
-        // 2단계: User의 Blog에 속한 Post들의 연관 데이터 삭제
-        commentRepository.deleteAllByPostBlogUserId(userId);   // 내 게시글의 댓글들
-        likeRepository.deleteAllByPostBlogUserId(userId);      // 내 게시글의 좋아요들
-        tagMapRepository.deleteAllByPostBlogUserId(userId);    // 내 게시글의 태그들
-        // 3단계: User의 Blog에 속한 Post들 삭제
-        postRepository.deleteAllByBlogUserId(userId);
+        // 게시글도 즉시 비공개, 태그 인덱스에서 제외
+        Long blogId = user.getBlog().getId();
+        Map<Long, Map<Long, String>> tagsByPost = new HashMap<>();
+        for (Object[] row : tagMapRepository.findLivePostTagsByBlogId(blogId)) {
+            tagsByPost.computeIfAbsent((Long) row[0], k -> new HashMap<>()).put((Long) row[1], (String) row[2]);
+        }
+        postRepository.markDeletedByBlogId(blogId, user.getDeletedAt());
+        tagsByPost.forEach((postId, tags) -> tagIndexUpdater.onPostTagsChanged(postId, tags, Map.of()));
+
+        refreshTokenRepository.deleteAllByUserId(userId);      // 발급된 리프레시 토큰
+        authSessionRepository.deleteAllByUserId(userId);       // 저장된 로그인 세션
+        AfterCommit.run(() -> {
+            deletedAccounts.add(userId);                       // 다른 세션/액세스 토큰도 다음 요청부터 익명 처리
+            followGraph.removeUser(userId);
+            suggestIndex.onUserDeleted(userId);
+        });
     }
 
 }
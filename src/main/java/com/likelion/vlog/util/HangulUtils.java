@@ -0,0 +1,95 @@
+package com.likelion.vlog.util;
+
+import java.util.Arrays;
+
+/**
+ * 한글 초성 분해/매칭
+ * - 완성형 음절(가~힣)은 초성 호환 자모(ㄱ~ㅎ)로, 그 외 문자는 그대로 둠
+ * - 검색용 문자열은 모두 normalize(소문자, 공백 제거)를 거친 뒤 비교
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;   // 중성 21 × 종성 28
+
+    // 초성 순서 (유니코드 음절 배치 순)
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 소문자로 바꾸고 공백 제거
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 정규화한 뒤 음절을 초성으로 바꾼 문자열 ("Spring 스프링" → "springㅅㅍㄹ")
+     */
+    public static String choseong(String text) {
+        String normalized = normalize(text);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            sb.append(choseongOf(normalized.charAt(i)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 자모가 하나라도 들어 있는 검색어인지 (초성/혼합 검색 경로 판단)
+     */
+    public static boolean containsChoseong(String query) {
+        for (int i = 0; i < query.length(); i++) {
+            if (isChoseong(query.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 정규화된 text가 정규화된 query로 시작하는지
+     * - query의 초성 자모는 text 음절의 초성과, 나머지 문자는 그대로 비교 ("스ㅍ" 는 "스프링"과 일치)
+     */
+    public static boolean startsWith(String text, String query) {
+        return query.length() <= text.length() && regionMatches(text, 0, query);
+    }
+
+    private static boolean regionMatches(String text, int offset, String query) {
+        for (int i = 0; i < query.length(); i++) {
+            char q = query.charAt(i);
+            char t = text.charAt(offset + i);
+            if (q != t && !(isChoseong(q) && choseongOf(t) == q)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char choseongOf(char c) {
+        if (c < SYLLABLE_BEGIN || c > SYLLABLE_END) {
+            return c;
+        }
+        return CHOSEONG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG];
+    }
+
+    private static boolean isChoseong(char c) {
+        return Arrays.binarySearch(CHOSEONG, c) >= 0;
+    }
+}